@@ -0,0 +1,147 @@
+/*
+ * Project      : srsLib
+ * File         : AllocationBudgets.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntToLongFunction;
+
+import com.sun.management.ThreadMXBean;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.sounds.SoundEvent;
+
+import de.srsco.srslib.function.SLFunctions;
+import de.srsco.srslib.util.MutableJoiner;
+import de.srsco.srslib.util.Util;
+import de.srsco.srslib.util.Util.LangKeyBuilder;
+import de.srsco.srslib.util.Util.LangKeyBuilder.LangKeyContext;
+
+
+/**
+ * Asserts per-call allocation budgets for srsLib's hot paths, using {@link ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * <p>
+ * Each operation is warmed up until compiled, then measured over {@link #CALLS} calls on the current thread.
+ * Operations return a long derived from their result, so that results are used without escaping the call.
+ * The total allocated over all calls is compared against the budget times {@link #CALLS}, plus a small fixed
+ * {@link #TOLERANCE} for JIT and TLAB noise, so that an operation which only allocates on some calls is still caught.
+ * The process exits with a non-zero status if any operation exceeds its budget,
+ * which fails the {@code allocationBudgets} task. It is only part of {@code check} with {@code -Pallocation_budgets=true},
+ * as the registry budgets need the vanilla {@link RegistryFixture#bootstrap() bootstrap} to run headlessly.
+ */
+public final class AllocationBudgets
+{
+    private static final int WARMUP = 200_000;
+    private static final int CALLS  = 1_000_000;
+    /** The bytes allowed over the total budget of each operation, for allocations by the JIT or TLAB refills. */
+    private static final long TOLERANCE = 4096;
+
+    private AllocationBudgets() {}
+
+    public static void main(final String[] args)
+    {
+        final var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Thread allocation accounting is not supported by this JVM.");
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        final var failures = new ArrayList<String>();
+        for (final var budget : budgets()) {
+            final long total = measure(threads, budget.operation());
+            final long allowed = budget.bytesPerCall() * CALLS + TOLERANCE;
+            final boolean passed = total <= allowed;
+            System.out.printf("%-32s %10.3f B/call, %12d B total (allowed %d)%s%n",
+                budget.name(), (double) total / CALLS, total, allowed, passed ? "" : "  FAILED");
+            if (!passed) {
+                failures.add("%s (%d B total, allowed %d)".formatted(budget.name(), total, allowed));
+            }
+        }
+        if (!failures.isEmpty()) {
+            System.err.println("Allocation budgets exceeded: " + String.join(", ", failures));
+            System.exit(1);
+        }
+    }
+
+    private static List<Budget> budgets()
+    {
+        final var joiner = MutableJoiner.newDotJoiner().pushAll("srslib", "command", "config", "option");
+        final var builder = new StringBuilder(64);
+        final var langKey = LangKeyBuilder.from(() -> "srslib", LangKeyContext.COMMAND).get().append("config").push();
+        RegistryFixture.bootstrap();
+        final Object sound = BuiltInRegistries.SOUND_EVENT.iterator().next();
+        final var castTo = SLFunctions.<Object, SoundEvent>castTo(SoundEvent.class);
+        final var safeCast = SLFunctions.<Object, SoundEvent>safeCast(SoundEvent.class);
+        final long[] sink = new long[1];
+        final Consumer<SoundEvent> counter = value -> sink[0]++;
+
+        return List.of(
+            new Budget("MutableJoiner#length", 0, i -> joiner.length()),
+            new Budget("MutableJoiner#appendTo", 0, i -> {
+                builder.setLength(0);
+                return joiner.appendTo(builder).length();
+            }),
+            new Budget("MutableJoiner#pushPop", 0, i -> joiner.push("element").pop().size()),
+            new Budget("Util#getRegistryFor", 0, i -> Util.getRegistryFor(sound).isPresent() ? 1 : 0),
+            new Budget("SLFunctions#castTo", 0, i -> {
+                castTo.accept(sound, counter);
+                return sink[0];
+            }),
+            new Budget("SLFunctions#safeCast", 16, i -> safeCast.apply(sound).isPresent() ? 1 : 0),
+            // Measured at 936 B/call, mostly the merged path Streams and the joined key String.
+            new Budget("LangKeyBuilder#getKey", 960, i -> langKey.append("option").getKey().length())
+        );
+    }
+
+    /**
+     * <h3>Returns the total bytes allocated by the current thread over {@link #CALLS} calls of the operation.</h3>
+     */
+    private static long measure(final ThreadMXBean threads, final IntToLongFunction operation)
+    {
+        final long thread = Thread.currentThread().threadId();
+        long result = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            result += operation.applyAsLong(i);
+        }
+        final long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < CALLS; i++) {
+            result += operation.applyAsLong(i);
+        }
+        final long after = threads.getThreadAllocatedBytes(thread);
+        if (result == Long.MIN_VALUE) {
+            System.out.println(result);
+        }
+        return after - before;
+    }
+
+    private record Budget(String name, long bytesPerCall, IntToLongFunction operation) {}
+}
@@ -0,0 +1,90 @@
+/*
+ * Project      : srsLib
+ * File         : BehaviourChecks.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import de.srsco.srslib.function.Condition;
+import de.srsco.srslib.function.Dummies;
+import de.srsco.srslib.function.Multicast;
+import de.srsco.srslib.function.TriConsumer;
+
+
+/**
+ * Asserts behaviour of srsLib that must not change silently, such as a public API starting to cache results.
+ * <p>
+ * Unlike {@link AllocationBudgets}, these checks need no Minecraft bootstrap. The process exits with a non-zero status
+ * if any check fails, which fails the {@code behaviourChecks} task and therefore {@code check}.
+ */
+public final class BehaviourChecks
+{
+    private BehaviourChecks() {}
+
+    public static void main(final String[] args)
+    {
+        final var failures = new ArrayList<String>();
+        for (final var check : checks()) {
+            final boolean passed = check.assertion().getAsBoolean();
+            System.out.printf("%-48s %s%n", check.name(), passed ? "passed" : "FAILED");
+            if (!passed) {
+                failures.add(check.name());
+            }
+        }
+        if (!failures.isEmpty()) {
+            System.err.println("Behaviour checks failed: " + String.join(", ", failures));
+            System.exit(1);
+        }
+    }
+
+    private static List<Check> checks()
+    {
+        return List.of(
+            new Check("Condition#of with dummy suppliers re-evaluates", () -> {
+                final boolean[] flag = {false};
+                final var condition = Condition.of(Dummies.dummySupplier(), Dummies.dummySupplier(), Dummies.dummySupplier(), (a, b, c) -> flag[0]);
+                final boolean before = condition.evaluate();
+                flag[0] = true;
+                return !before && condition.evaluate();
+            }),
+            new Check("Multicast#remove of an added multicaster", () -> {
+                final TriConsumer<Object, Object, Object> first = (a, b, c) -> { };
+                final TriConsumer<Object, Object, Object> second = (a, b, c) -> { };
+                final var nested = Multicast.consumers(first, second);
+                final var multicaster = Multicast.<Object, Object, Object>consumers().add(nested);
+                nested.remove(first);
+                return multicaster.remove(nested) && multicaster.size() == 0 && !multicaster.remove(nested);
+            })
+        );
+    }
+
+    private record Check(String name, BooleanSupplier assertion) {}
+}
@@ -0,0 +1,100 @@
+/*
+ * Project      : srsLib
+ * File         : CollectionFootprints.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import de.srsco.srslib.iterable.SLCollections;
+
+
+/**
+ * Reports the retained heap per result of the immutable merges of {@link SLCollections} and their unmodifiable
+ * counterparts, for the same inputs as {@link SLCollectionsBenchmark}.
+ * <p>
+ * Each result is retained over several copies, and the used heap is sampled after a full GC before and after.
+ * Elements are shared with the inputs, so only the footprint of the collections themselves is counted. This runs on
+ * a single thread outside of JMH, as the heap samples would otherwise include the allocation of other threads.
+ */
+public final class CollectionFootprints
+{
+    private static final int[] INPUTS = {4, 32};
+    private static final int[] SIZES = {16, 1024, 65536};
+    private static final int RETAINED_ELEMENTS = 1 << 21;
+
+    private CollectionFootprints() {}
+
+    @SuppressWarnings("unchecked")
+    public static void main(final String[] args)
+    {
+        System.out.printf("%6s %6s %16s %16s %16s %16s%n", "inputs", "size", "immutableList", "unmodifiableList", "immutableSet", "unmodifiableSet");
+        for (final int inputs : INPUTS) {
+            for (final int size : SIZES) {
+                final var lists = (List<Integer>[]) new List<?>[inputs];
+                for (int i = 0; i < inputs; i++) {
+                    final int offset = i;
+                    lists[i] = new ArrayList<>(IntStream.range(0, size).map(n -> n * inputs + offset).boxed().toList());
+                }
+                final int copies = Math.max(1, RETAINED_ELEMENTS / (inputs * size));
+                System.out.printf("%6d %6d %14d B %14d B %14d B %14d B%n", inputs, size,
+                    retainedBytes(copies, () -> SLCollections.mergeToImmutableList(lists)),
+                    retainedBytes(copies, () -> SLCollections.mergeToUnmodifiable(ArrayList::new, lists)),
+                    retainedBytes(copies, () -> SLCollections.mergeToImmutableSet(lists)),
+                    retainedBytes(copies, () -> SLCollections.<Integer, Collection<Integer>>mergeToUnmodifiable(HashSet::new, lists)));
+            }
+        }
+    }
+
+    private static long retainedBytes(final int copies, final Supplier<Collection<Integer>> merger)
+    {
+        final var retained = new Object[copies];
+        final long before = usedHeap();
+        for (int i = 0; i < copies; i++) {
+            retained[i] = merger.get();
+        }
+        final long after = usedHeap();
+        Reference.reachabilityFence(retained);
+        return (after - before) / copies;
+    }
+
+    private static long usedHeap()
+    {
+        final var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
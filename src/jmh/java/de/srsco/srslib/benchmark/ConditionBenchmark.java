@@ -0,0 +1,100 @@
+/*
+ * Project      : srsLib
+ * File         : ConditionBenchmark.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.srsco.srslib.function.Cell;
+import de.srsco.srslib.function.Condition;
+import de.srsco.srslib.function.Epoch;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionBenchmark
+{
+    private int value;
+    private Condition<Integer, Integer, Integer> boxed;
+    private Condition<Integer, Integer, Integer> ints;
+    private Condition<Integer, Integer, Integer> incremental;
+    private Condition<Integer, Integer, Integer> memoized;
+
+    @Setup
+    public void setup()
+    {
+        final Supplier<Integer> first = () -> value;
+        final Supplier<Integer> second = () -> 16;
+        final Supplier<Integer> third = () -> 1024;
+        boxed = Condition.of(first, second, third, (a, b, c) -> a + b < c);
+        ints = Condition.ofInts(() -> value, () -> 16, () -> 1024, (a, b, c) -> a + b < c);
+        incremental = Condition.incremental(Cell.source(value), Cell.constant(16), Cell.constant(1024), (a, b, c) -> a + b < c);
+        memoized = Condition.memoized(new Epoch(), first, second, third, (a, b, c) -> a + b < c);
+    }
+
+    @Benchmark
+    public boolean evaluate()
+    {
+        return boxed.evaluate();
+    }
+
+    @Benchmark
+    public boolean evaluateInts()
+    {
+        return ints.evaluate();
+    }
+
+    @Benchmark
+    public boolean evaluateIncremental()
+    {
+        return incremental.evaluate();
+    }
+
+    @Benchmark
+    public boolean evaluateMemoized()
+    {
+        return memoized.evaluate();
+    }
+}
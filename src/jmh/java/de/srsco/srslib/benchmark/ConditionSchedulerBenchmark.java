@@ -0,0 +1,107 @@
+/*
+ * Project      : srsLib
+ * File         : ConditionSchedulerBenchmark.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.srsco.srslib.function.BudgetedConditionExecutor;
+import de.srsco.srslib.function.Condition;
+import de.srsco.srslib.function.ConditionScheduler;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionSchedulerBenchmark
+{
+    @Param({"64", "1024", "16384"})
+    public int conditions;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private List<Runnable> runnables;
+    private ConditionScheduler scheduler;
+    private BudgetedConditionExecutor executor;
+
+    @Setup
+    public void setup()
+    {
+        runnables = new ArrayList<>(conditions);
+        scheduler = new ConditionScheduler();
+        executor = new BudgetedConditionExecutor(Duration.ofDays(1));
+        for (int i = 0; i < conditions; i++) {
+            final int id = i;
+            final var runnable = Condition.runOnCondition(() -> id, counter::get, () -> conditions,
+                (a, b, c) -> (a + b) % c == 0, cond -> counter.incrementAndGet());
+            runnables.add(runnable);
+            scheduler.register(runnable);
+            executor.register(runnable);
+        }
+    }
+
+    @Benchmark
+    public int sequential()
+    {
+        for (final var runnable : runnables) {
+            runnable.run();
+        }
+        return counter.get();
+    }
+
+    @Benchmark
+    public int schedulerTick()
+    {
+        return scheduler.tick();
+    }
+
+    @Benchmark
+    public int budgetedTick()
+    {
+        return executor.tick();
+    }
+}
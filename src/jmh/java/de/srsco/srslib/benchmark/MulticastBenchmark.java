@@ -0,0 +1,115 @@
+/*
+ * Project      : srsLib
+ * File         : MulticastBenchmark.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.srsco.srslib.function.Multicast;
+import de.srsco.srslib.function.TriConsumer;
+import de.srsco.srslib.function.TriPredicate;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MulticastBenchmark
+{
+    @Param({"2", "8", "32", "64", "128"})
+    public int members;
+
+    private long sum;
+    private TriConsumer<Integer, Integer, Integer> chainedConsumer;
+    private TriConsumer<Integer, Integer, Integer> multicastConsumer;
+    private TriPredicate<Integer, Integer, Integer> chainedPredicate;
+    private TriPredicate<Integer, Integer, Integer> multicastPredicate;
+
+    @Setup
+    public void setup()
+    {
+        final Multicast.Consumers<Integer, Integer, Integer> consumers = Multicast.consumers();
+        final Multicast.Predicates<Integer, Integer, Integer> predicates = Multicast.allOf();
+        chainedConsumer = (a, b, c) -> sum += a;
+        chainedPredicate = (a, b, c) -> a < c;
+        consumers.add(chainedConsumer);
+        predicates.add(chainedPredicate);
+        for (int i = 1; i < members; i++) {
+            final int offset = i;
+            final TriConsumer<Integer, Integer, Integer> consumer = (a, b, c) -> sum += a + offset;
+            final TriPredicate<Integer, Integer, Integer> predicate = (a, b, c) -> a + offset < c;
+            chainedConsumer = chainedConsumer.andThen(consumer);
+            chainedPredicate = chainedPredicate.and(predicate);
+            consumers.add(consumer);
+            predicates.add(predicate);
+        }
+        multicastConsumer = consumers;
+        multicastPredicate = predicates;
+    }
+
+    @Benchmark
+    public long chainedAccept()
+    {
+        chainedConsumer.accept(1, 2, 1024);
+        return sum;
+    }
+
+    @Benchmark
+    public long multicastAccept()
+    {
+        multicastConsumer.accept(1, 2, 1024);
+        return sum;
+    }
+
+    @Benchmark
+    public boolean chainedTest()
+    {
+        return chainedPredicate.test(1, 2, 1024);
+    }
+
+    @Benchmark
+    public boolean multicastTest()
+    {
+        return multicastPredicate.test(1, 2, 1024);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Project      : srsLib
+ * File         : MutableJoinerBenchmark.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.srsco.srslib.util.MutableJoiner;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutableJoinerBenchmark
+{
+    @Param({"4", "16"})
+    public int elements;
+
+    private MutableJoiner joiner;
+    private final StringBuilder builder = new StringBuilder();
+
+    @Setup
+    public void setup()
+    {
+        joiner = MutableJoiner.newDotJoiner();
+        for (int i = 0; i < elements; i++) {
+            joiner.push("element" + i);
+        }
+    }
+
+    @Benchmark
+    public MutableJoiner pushPop()
+    {
+        return joiner.push("element").pop();
+    }
+
+    @Benchmark
+    public String join()
+    {
+        return joiner.toString();
+    }
+
+    @Benchmark
+    public StringBuilder appendTo()
+    {
+        builder.setLength(0);
+        return joiner.appendTo(builder);
+    }
+
+    @Benchmark
+    public int length()
+    {
+        return joiner.length();
+    }
+
+    @Benchmark
+    public Optional<String> getOptional()
+    {
+        return joiner.getOptional();
+    }
+
+    @Benchmark
+    public MutableJoiner copy()
+    {
+        return joiner.copy();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Project      : srsLib
+ * File         : RegistryFixture.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import com.mojang.serialization.Lifecycle;
+import org.jetbrains.annotations.NotNull;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.sounds.SoundEvent;
+
+
+/**
+ * A headless registry environment for measuring {@link de.srsco.srslib.util.Util}'s registry helpers outside a running game.
+ * <p>
+ * {@link #bootstrap()} runs the vanilla {@link Bootstrap} once per JVM, which populates and freezes {@link BuiltInRegistries}
+ * outside of FML. It does not load assets, but it has not been proven to run in every headless environment, so the
+ * {@code allocationBudgets} task that depends on it is opt-in rather than part of every build. The generators then add synthetic entries spread across many namespaces,
+ * to approximate the registry sizes of a large modpack.
+ */
+public final class RegistryFixture
+{
+    /** The number of entries in a modpack-scale synthetic registry. */
+    public static final int MODPACK_SCALE = 100_000;
+    /** The number of namespaces that synthetic entries are spread across. */
+    public static final int NAMESPACES = 400;
+
+    private static boolean bootstrapped;
+
+    private RegistryFixture() {}
+
+    /**
+     * <h3>Bootstraps the vanilla registries if they have not been already.</h3>
+     */
+    public static synchronized void bootstrap()
+    {
+        if (!bootstrapped) {
+            SharedConstants.tryDetectVersion();
+            Bootstrap.bootStrap();
+            bootstrapped = true;
+        }
+    }
+
+    /**
+     * <h3>Creates a frozen standalone registry holding a number of synthetic entries.</h3>
+     *
+     * @param name    The path of the registry name.
+     * @param size    The number of entries to register.
+     * @param factory Creates an entry for its ResourceLocation.
+     * @param <T>     The type of entry.
+     * @return        The frozen registry.
+     */
+    public static <T> Registry<T> synthetic(@NotNull final String name, final int size, @NotNull final Function<ResourceLocation, T> factory)
+    {
+        final ResourceKey<Registry<T>> key = ResourceKey.createRegistryKey(ResourceLocation.fromNamespaceAndPath("srslib_bench", name));
+        final var registry = new MappedRegistry<>(key, Lifecycle.stable());
+        register(registry, name, size, factory);
+        return registry.freeze();
+    }
+
+    /**
+     * <h3>Adds synthetic SoundEvents to {@link BuiltInRegistries#SOUND_EVENT}, bootstrapping it first if needed.</h3>
+     * SoundEvents have no intrusive holders, so they can be created freely to grow a built-in registry to modpack scale.
+     *
+     * @param size The number of SoundEvents to register.
+     * @return     The registered SoundEvents.
+     */
+    public static List<SoundEvent> populateSoundEvents(final int size)
+    {
+        bootstrap();
+        if (!(BuiltInRegistries.SOUND_EVENT instanceof MappedRegistry<SoundEvent> registry)) {
+            throw new IllegalStateException("The SoundEvent registry is not a MappedRegistry: " + BuiltInRegistries.SOUND_EVENT.getClass().getName());
+        }
+        registry.unfreeze();
+        try {
+            return register(registry, "sound", size, SoundEvent::createVariableRangeEvent);
+        } finally {
+            registry.freeze();
+        }
+    }
+
+    /**
+     * <h3>Picks a random sample of a registry's entries, for lookups that do not all hit the same entry.</h3>
+     *
+     * @param entries The entries to sample.
+     * @param size    The number of samples.
+     * @param seed    The random seed, so runs are comparable.
+     * @param <T>     The type of entry.
+     * @return        The samples.
+     */
+    public static <T> List<T> sample(@NotNull final List<T> entries, final int size, final long seed)
+    {
+        final var random = new Random(seed);
+        final var samples = new ArrayList<T>(size);
+        for (int i = 0; i < size; i++) {
+            samples.add(entries.get(random.nextInt(entries.size())));
+        }
+        return samples;
+    }
+
+    private static <T> List<T> register(final Registry<T> registry, final String prefix, final int size, final Function<ResourceLocation, T> factory)
+    {
+        final var entries = new ArrayList<T>(size);
+        for (int i = 0; i < size; i++) {
+            final var id = ResourceLocation.fromNamespaceAndPath("mod" + (i % NAMESPACES), prefix + "_" + i);
+            entries.add(Registry.register(registry, id, factory.apply(id)));
+        }
+        return entries;
+    }
+}
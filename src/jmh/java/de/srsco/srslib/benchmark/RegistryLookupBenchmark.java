@@ -0,0 +1,142 @@
+/*
+ * Project      : srsLib
+ * File         : RegistryLookupBenchmark.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.mojang.serialization.MapCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.world.level.saveddata.maps.MapDecorationType;
+
+import de.srsco.srslib.util.Util;
+
+
+/**
+ * Measures the registry helpers of {@link Util} against a {@link BuiltInRegistries#SOUND_EVENT} registry grown to
+ * {@link RegistryFixture#MODPACK_SCALE} entries. SoundEvent is matched early by {@link Util#getRegistryFor(Object)},
+ * MapDecorationType is matched last. A standalone synthetic registry of the same size is the baseline for the lookup alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryLookupBenchmark
+{
+    private static final int SAMPLES = 1024;
+
+    private SoundEvent[] sounds;
+    private MapDecorationType decoration;
+    private MapCodec<?> codec;
+    private Registry<Object> synthetic;
+    private Object[] syntheticSamples;
+
+    @Setup
+    public void setup()
+    {
+        final List<SoundEvent> registered = RegistryFixture.populateSoundEvents(RegistryFixture.MODPACK_SCALE);
+        sounds = RegistryFixture.sample(registered, SAMPLES, 42L).toArray(SoundEvent[]::new);
+        decoration = BuiltInRegistries.MAP_DECORATION_TYPE.iterator().next();
+        codec = BuiltInRegistries.ENCHANTMENT_PROVIDER_TYPE.iterator().next();
+        synthetic = RegistryFixture.synthetic("synthetic", RegistryFixture.MODPACK_SCALE, id -> new Object());
+        syntheticSamples = RegistryFixture.sample(synthetic.stream().toList(), SAMPLES, 42L).toArray();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int next;
+    }
+
+    private SoundEvent nextSound(final Cursor cursor)
+    {
+        return sounds[cursor.next++ & (SAMPLES - 1)];
+    }
+
+    @Benchmark
+    public Optional<Registry<SoundEvent>> getRegistryForFirst(final Cursor cursor)
+    {
+        return Util.getRegistryFor(nextSound(cursor));
+    }
+
+    @Benchmark
+    public Optional<Registry<MapDecorationType>> getRegistryForLast()
+    {
+        return Util.getRegistryFor(decoration);
+    }
+
+    @Benchmark
+    public Optional<ResourceKey<SoundEvent>> getResKey(final Cursor cursor)
+    {
+        return Util.getResKey(nextSound(cursor));
+    }
+
+    @Benchmark
+    public Optional<ResourceKey<?>> getResKeyIndexed()
+    {
+        return Util.getResKey(codec);
+    }
+
+    @Benchmark
+    public Optional<ResourceLocation> getResLoc(final Cursor cursor)
+    {
+        return Util.getResLoc(nextSound(cursor));
+    }
+
+    @Benchmark
+    public Optional<ResourceKey<SoundEvent>> registryBaseline(final Cursor cursor)
+    {
+        return BuiltInRegistries.SOUND_EVENT.getResourceKey(nextSound(cursor));
+    }
+
+    @Benchmark
+    public Optional<ResourceKey<Object>> syntheticBaseline(final Cursor cursor)
+    {
+        return synthetic.getResourceKey(syntheticSamples[cursor.next++ & (SAMPLES - 1)]);
+    }
+}
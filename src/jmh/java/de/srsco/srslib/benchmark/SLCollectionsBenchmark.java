@@ -0,0 +1,160 @@
+/*
+ * Project      : srsLib
+ * File         : SLCollectionsBenchmark.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.srsco.srslib.iterable.SLCollections;
+import de.srsco.srslib.iterable.primitive.IntArrayList;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("unchecked")
+public class SLCollectionsBenchmark
+{
+    @Param({"4", "32"})
+    public int inputs;
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private List<Integer>[] lists;
+    private IntArrayList[] intLists;
+
+    @Setup
+    public void setup()
+    {
+        lists = (List<Integer>[]) new List<?>[inputs];
+        intLists = new IntArrayList[inputs];
+        for (int i = 0; i < inputs; i++) {
+            final int offset = i;
+            lists[i] = new ArrayList<>(IntStream.range(0, size).map(n -> n * inputs + offset).boxed().toList());
+            intLists[i] = IntArrayList.of(IntStream.range(0, size).map(n -> n * inputs + offset).toArray());
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> baselineUnsizedAdd()
+    {
+        final var merged = new ArrayList<Integer>();
+        for (final var list : lists) {
+            list.forEach(merged::add);
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> merge()
+    {
+        return SLCollections.merge(ArrayList::new, lists);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> mergeSized()
+    {
+        return SLCollections.mergeSized(ArrayList::new, lists);
+    }
+
+    @Benchmark
+    public HashSet<Integer> toHashSet()
+    {
+        return SLCollections.toHashSet(lists);
+    }
+
+    @Benchmark
+    public void concatViewIterate(final Blackhole blackhole)
+    {
+        for (final var value : SLCollections.concatView(lists)) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void mergeIterate(final Blackhole blackhole)
+    {
+        for (final var value : SLCollections.toArrayList(lists)) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> mergeParallel()
+    {
+        return SLCollections.mergeParallel(lists);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> mergeSorted()
+    {
+        return SLCollections.mergeSorted(Comparator.naturalOrder(), lists);
+    }
+
+    @Benchmark
+    public List<Integer> mergeToImmutableList()
+    {
+        return SLCollections.mergeToImmutableList(lists);
+    }
+
+    @Benchmark
+    public Set<Integer> mergeToImmutableSet()
+    {
+        return SLCollections.mergeToImmutableSet(lists);
+    }
+
+    @Benchmark
+    public IntArrayList mergeInts()
+    {
+        return SLCollections.merge(intLists);
+    }
+}
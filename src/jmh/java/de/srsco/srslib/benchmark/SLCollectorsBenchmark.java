@@ -0,0 +1,107 @@
+/*
+ * Project      : srsLib
+ * File         : SLCollectorsBenchmark.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.srsco.srslib.iterable.primitive.IntArrayList;
+import de.srsco.srslib.iterable.primitive.IntSet;
+import de.srsco.srslib.stream.SLCollectors;
+import de.srsco.srslib.stream.TypePartition;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SLCollectorsBenchmark
+{
+    @Param({"0", "1024"})
+    public int size;
+
+    private List<Integer> values;
+    private List<Object> mixed;
+    private Collector<Object, ?, TypePartition<Object>> partitioner;
+
+    @Setup
+    public void setup()
+    {
+        values = IntStream.range(0, size).boxed().toList();
+        mixed = IntStream.range(0, size).<Object>mapToObj(i -> switch (i % 3) {
+            case 0  -> i;
+            case 1  -> (long) i;
+            default -> String.valueOf(i);
+        }).toList();
+        partitioner = SLCollectors.partitionByType(Integer.class, Long.class, String.class);
+    }
+
+    @Benchmark
+    public Optional<List<Integer>> toOptional()
+    {
+        return values.stream().collect(SLCollectors.toOptional(Collectors.toList()));
+    }
+
+    @Benchmark
+    public IntArrayList toIntList()
+    {
+        return values.stream().collect(SLCollectors.toIntList(Integer::intValue));
+    }
+
+    @Benchmark
+    public IntSet toIntSet()
+    {
+        return values.stream().collect(SLCollectors.toIntSet(Integer::intValue));
+    }
+
+    @Benchmark
+    public TypePartition<Object> partitionByType()
+    {
+        return mixed.stream().collect(partitioner);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Project      : srsLib
+ * File         : BudgetedConditionExecutor.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jetbrains.annotations.NotNull;
+
+import de.srsco.srslib.function.Condition.ConditionalRunnable;
+import de.srsco.srslib.metrics.Counter;
+import de.srsco.srslib.metrics.Histogram;
+import de.srsco.srslib.metrics.Metrics;
+
+
+/**
+ * An executor that runs registered {@link ConditionalRunnable}s within a time budget per tick.
+ * <p>
+ * Each {@link #tick} visits the runnables in round-robin order starting from where the previous tick stopped,
+ * running each at most once, and stops as soon as the elapsed time reaches the budget. Runnables that were not
+ * reached are deferred and are the first to run on the next tick, so every runnable is eventually run regardless
+ * of how many conditions fire at once. At least one runnable is run per tick to guarantee progress.
+ * All methods other than {@link #stats} are expected to be called from a single thread, such as the server thread.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class BudgetedConditionExecutor
+{
+    private static final Histogram TICK_NANOS = Metrics.histogram("srslib.condition.budgeted.tick_nanos");
+    private static final Counter DEFERRALS = Metrics.counter("srslib.condition.budgeted.deferrals");
+
+    private final CopyOnWriteArrayList<ConditionalRunnable<?, ?, ?>> runnables = new CopyOnWriteArrayList<>();
+    private final long budgetNanos;
+    private int cursor;
+
+    private long ticks;
+    private long visited;
+    private long passed;
+    private long deferrals;
+    private volatile Stats stats = new Stats(0, 0, 0, 0, 0, 0);
+
+    /**
+     * <h3>Creates an executor with a budget per tick.</h3>
+     *
+     * @param budget The time each tick may spend running conditions, eg: 5ms of a 50ms tick.
+     */
+    public BudgetedConditionExecutor(@NotNull final Duration budget)
+    {
+        Objects.requireNonNull(budget, "A budget is required for the executor.");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("The budget must be positive: " + budget);
+        }
+        this.budgetNanos = budget.toNanos();
+    }
+
+    public BudgetedConditionExecutor register(@NotNull final ConditionalRunnable<?, ?, ?> runnable)
+    {
+        runnables.add(Objects.requireNonNull(runnable, "Can not register a null runnable."));
+        return this;
+    }
+
+    /**
+     * <h3>Registers a Runnable created by {@link Condition#runOnCondition}.</h3>
+     *
+     * @throws IllegalArgumentException if the Runnable is not a ConditionalRunnable.
+     */
+    public BudgetedConditionExecutor register(@NotNull final Runnable runnable)
+    {
+        if (!(runnable instanceof ConditionalRunnable<?, ?, ?> conditional)) {
+            throw new IllegalArgumentException("Only Runnables from Condition#runOnCondition can be scheduled: " + runnable);
+        }
+        return register(conditional);
+    }
+
+    public boolean unregister(final Runnable runnable)
+    {
+        return runnables.remove(runnable);
+    }
+
+    public int size()
+    {
+        return runnables.size();
+    }
+
+    /**
+     * <h3>Runs registered runnables until the default budget is spent or each has been run once.</h3>
+     *
+     * @return The number of runnables deferred to the next tick.
+     */
+    public int tick()
+    {
+        return tick(budgetNanos);
+    }
+
+    /**
+     * <h3>Runs registered runnables until the budget is spent or each has been run once.</h3>
+     *
+     * @param budget The time in nanoseconds that this tick may spend.
+     * @return The number of runnables deferred to the next tick.
+     */
+    public int tick(final long budget)
+    {
+        final var batch = runnables.toArray(ConditionalRunnable<?, ?, ?>[]::new);
+        final int size = batch.length;
+        final long start = System.nanoTime();
+        int count = 0;
+        int passes = 0;
+        if (size > 0) {
+            int index = cursor % size;
+            do {
+                if (runOnce(batch[index])) {
+                    passes++;
+                }
+                count++;
+                index = index + 1 == size ? 0 : index + 1;
+            } while (count < size && System.nanoTime() - start < budget);
+            cursor = index;
+        }
+        final int backlog = size - count;
+
+        ticks++;
+        visited += count;
+        passed += passes;
+        deferrals += backlog;
+        final long elapsed = System.nanoTime() - start;
+        stats = new Stats(ticks, visited, passed, deferrals, backlog, elapsed);
+        TICK_NANOS.record(elapsed);
+        DEFERRALS.add(backlog);
+        return backlog;
+    }
+
+    /**
+     * <h3>Returns the metrics as of the last completed tick.</h3>
+     */
+    public Stats stats()
+    {
+        return stats;
+    }
+
+    private static <A, B, C> boolean runOnce(final ConditionalRunnable<A, B, C> runnable)
+    {
+        if (Evaluations.evaluate(runnable)) {
+            runnable.consumer().accept(runnable);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * <h3>A snapshot of the executor's metrics.</h3>
+     *
+     * @param ticks         The number of completed ticks.
+     * @param visited       The total number of runnables whose conditions were evaluated.
+     * @param passed        The total number of conditions that passed and had their consumers applied.
+     * @param deferrals     The total number of times a runnable was deferred to a later tick.
+     * @param backlog       The number of runnables deferred by the last tick.
+     * @param lastTickNanos The time spent by the last tick.
+     */
+    public record Stats(long ticks, long visited, long passed, long deferrals, int backlog, long lastTickNanos) {}
+}
@@ -0,0 +1,366 @@
+/*
+ * Project      : srsLib
+ * File         : Cell.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * An observable value with a version stamp that increases whenever the value changes, forming the inputs and nodes
+ * of a pull-based reactive graph.
+ * <p>
+ * A {@link Condition} created with Cells for all three of its suppliers via {@link Condition#incremental} only
+ * re-evaluates its predicate when the version of one of its inputs has changed since its last evaluation, so its
+ * predicate must be free of side effects and depend on nothing but its inputs. Derived Cells likewise only recompute
+ * when one of their inputs changed. Cells are safe to share between threads, such as the workers of a
+ * {@link ConditionScheduler}: Source Cells are set under their own lock and read without one, while polled and derived
+ * Cells hold their lock while they poll or recompute, so concurrent readers see a consistent value and version.
+ *
+ * @param <T> The type of the value.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public abstract sealed class Cell<T> implements Supplier<T> permits Cell.Source, Cell.Constant, Cell.Polled, Cell.Derived
+{
+    long recomputes;
+    long changes;
+
+    private Cell() {}
+
+    /**
+     * <h3>Brings the Cell up to date with its inputs and returns its current version.</h3>
+     *
+     * @return A version stamp that differs from any previously returned one if, and only if, the value has changed.
+     */
+    public abstract long version();
+
+    /**
+     * <h3>Returns the statistics of this Cell.</h3>
+     */
+    public synchronized Stats stats()
+    {
+        return new Stats(recomputes, changes);
+    }
+
+    /**
+     * <h3>Creates a Cell whose value is only changed by {@link Source#set}.</h3>
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T> Source<T> source(final T initial)
+    {
+        return new Source<>(initial);
+    }
+
+    /**
+     * <h3>Creates a Cell with a value that never changes.</h3>
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T> Cell<T> constant(final T value)
+    {
+        return new Constant<>(value);
+    }
+
+    /**
+     * <h3>Creates a Cell that polls a Supplier at most once per epoch, changing version when the polled value changes.</h3>
+     *
+     * @param supplier The Supplier of the value.
+     * @param epoch    A source of the current epoch, such as an {@link Epoch} or a game time getter.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T> Cell<T> polled(@NotNull final Supplier<T> supplier, @NotNull final LongSupplier epoch)
+    {
+        return new Polled<>(supplier, epoch);
+    }
+
+    /**
+     * <h3>Creates a Cell that is computed from another Cell and recomputed only when it changes.</h3>
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <A, T> Cell<T> map(@NotNull final Cell<A> input, @NotNull final Function<? super A, ? extends T> mapper)
+    {
+        Objects.requireNonNull(mapper);
+        return new Derived<>(() -> mapper.apply(input.get()), input);
+    }
+
+    /**
+     * <h3>Creates a Cell that is computed from two Cells and recomputed only when either changes.</h3>
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <A, B, T> Cell<T> combine(@NotNull final Cell<A> first,
+                                            @NotNull final Cell<B> second,
+                                            @NotNull final BiFunction<? super A, ? super B, ? extends T> combiner)
+    {
+        Objects.requireNonNull(combiner);
+        return new Derived<>(() -> combiner.apply(first.get(), second.get()), first, second);
+    }
+
+    /**
+     * <h3>A Cell whose value is set directly.</h3>
+     */
+    public static final class Source<T> extends Cell<T>
+    {
+        private volatile T value;
+        private volatile long version;
+
+        private Source(final T value)
+        {
+            this.value = value;
+        }
+
+        /**
+         * <h3>Sets the value, advancing the version if it is not equal to the current value.</h3>
+         * Concurrent calls are serialized so that every change advances the version exactly once.
+         *
+         * @return true if the value changed.
+         */
+        public synchronized boolean set(final T newValue)
+        {
+            if (Objects.equals(value, newValue)) {
+                return false;
+            }
+            value = newValue;
+            version++;
+            changes++;
+            return true;
+        }
+
+        @Override
+        public T get()
+        {
+            return value;
+        }
+
+        @Override
+        public long version()
+        {
+            return version;
+        }
+    }
+
+    /**
+     * <h3>A Cell whose value and version never change.</h3>
+     */
+    static final class Constant<T> extends Cell<T>
+    {
+        private final T value;
+
+        private Constant(final T value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public T get()
+        {
+            return value;
+        }
+
+        @Override
+        public long version()
+        {
+            return 0;
+        }
+    }
+
+    /**
+     * <h3>A Cell that polls a Supplier once per epoch.</h3>
+     */
+    static final class Polled<T> extends Cell<T>
+    {
+        private final Supplier<T> supplier;
+        private final LongSupplier epoch;
+        private long polledAt = Long.MIN_VALUE;
+        private long version;
+        private T value;
+
+        private Polled(final Supplier<T> supplier, final LongSupplier epoch)
+        {
+            this.supplier = Objects.requireNonNull(supplier, "A Supplier is required for a polled Cell.");
+            this.epoch    = Objects.requireNonNull(epoch, "An epoch is required for a polled Cell.");
+        }
+
+        @Override
+        public synchronized T get()
+        {
+            version();
+            return value;
+        }
+
+        @Override
+        public synchronized long version()
+        {
+            final long current = epoch.getAsLong();
+            if (current != polledAt) {
+                polledAt = current;
+                recomputes++;
+                final var polled = supplier.get();
+                if (!Objects.equals(value, polled) || version == 0) {
+                    value = polled;
+                    version++;
+                    changes++;
+                }
+            }
+            return version;
+        }
+    }
+
+    /**
+     * <h3>A Cell computed from input Cells.</h3>
+     */
+    static final class Derived<T> extends Cell<T>
+    {
+        private final Supplier<? extends T> compute;
+        private final Cell<?>[] inputs;
+        private final long[] seen;
+        private long version;
+        private T value;
+
+        private Derived(final Supplier<? extends T> compute, final Cell<?>... inputs)
+        {
+            this.compute = compute;
+            this.inputs  = inputs;
+            this.seen    = new long[inputs.length];
+            Arrays.fill(seen, -1);
+        }
+
+        @Override
+        public synchronized T get()
+        {
+            version();
+            return value;
+        }
+
+        @Override
+        public synchronized long version()
+        {
+            if (Tracker.changed(inputs, seen)) {
+                recomputes++;
+                final T computed = compute.get();
+                if (!Objects.equals(value, computed) || version == 0) {
+                    value = computed;
+                    version++;
+                    changes++;
+                }
+            }
+            return version;
+        }
+    }
+
+    /**
+     * <h3>Tracks the versions of a set of input Cells that a result was last computed from.</h3>
+     */
+    public static final class Tracker
+    {
+        private final Cell<?>[] inputs;
+        private final long[] seen;
+        private long evaluations;
+        private long recomputes;
+        boolean result;
+
+        Tracker(final Cell<?>... inputs)
+        {
+            this.inputs = inputs;
+            this.seen   = new long[inputs.length];
+            Arrays.fill(seen, -1);
+        }
+
+        /**
+         * <h3>Returns true if any input has changed since the last call to {@link #update}, without recording it.</h3>
+         */
+        public synchronized boolean isDirty()
+        {
+            for (int i = 0; i < inputs.length; i++) {
+                if (inputs[i].version() != seen[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * <h3>Records an evaluation and returns true if any input has changed, meaning the result must be recomputed.</h3>
+         * Must be called while holding the lock of this Tracker, which must also guard the recomputation of
+         * {@link #result}, so that no thread can read a stale result after another thread has seen a change.
+         */
+        boolean update()
+        {
+            evaluations++;
+            if (changed(inputs, seen)) {
+                recomputes++;
+                return true;
+            }
+            return false;
+        }
+
+        public synchronized long evaluations()
+        {
+            return evaluations;
+        }
+
+        public synchronized long recomputes()
+        {
+            return recomputes;
+        }
+
+        private static boolean changed(final Cell<?>[] inputs, final long[] seen)
+        {
+            boolean changed = false;
+            for (int i = 0; i < inputs.length; i++) {
+                final long version = inputs[i].version();
+                if (version != seen[i]) {
+                    seen[i] = version;
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * <h3>The statistics of a Cell.</h3>
+     *
+     * @param recomputes The number of times the value was polled or recomputed.
+     * @param changes    The number of times the value changed.
+     */
+    public record Stats(long recomputes, long changes) {}
+}
@@ -31,7 +31,10 @@ package de.srsco.srslib.function;
 
 import java.util.Objects;
 import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
@@ -56,14 +59,14 @@ public sealed interface Condition<A, B, C> extends Evaluator
 
     default void conditionalRun(final Consumer<Condition<A, B, C>> consumer)
     {
-        if (evaluate()) {
+        if (Evaluations.evaluate(this)) {
             consumer.accept(this);
         }
     }
 
     static Condition<Object, Object, Object> alwaysTrue()
     {
-        return of(Dummies.dummySupplier(), Dummies.dummySupplier(), Dummies.dummySupplier(), (a, b, c) -> true);
+        return ConditionImpl.ALWAYS_TRUE;
     }
 
     static <A, B> Condition<A, B, Object> equality(final Supplier<A> first,
@@ -87,6 +90,27 @@ public sealed interface Condition<A, B, C> extends Evaluator
         return of(first, second, third, (a, b, contingency) -> contingency && predicate.test(a, b));
     }
 
+    static <A, B> Condition<A, B, Boolean> contingency(@NotNull final BooleanSupplier contingency,
+                                                       final Supplier<A> first,
+                                                       final Supplier<B> second,
+                                                       @NotNull final BiPredicate<? super A, ? super B> predicate)
+    {
+        return new ContingentCondition<>(contingency, first, second, predicate);
+    }
+
+    static Condition<Object, Object, Boolean> ofBoolean(@NotNull final BooleanSupplier supplier)
+    {
+        return contingency(supplier, Dummies.dummySupplier(), Dummies.dummySupplier(), (a, b) -> true);
+    }
+
+    static Condition<Integer, Integer, Integer> ofInts(@NotNull final IntSupplier first,
+                                                       @NotNull final IntSupplier second,
+                                                       @NotNull final IntSupplier third,
+                                                       @NotNull final IntTriPredicate predicate)
+    {
+        return new IntCondition(first, second, third, predicate);
+    }
+
     static <A, B, C> Condition<A, B, C> of(final Supplier<A> first,
                                            final Supplier<B> second,
                                            final Supplier<C> third,
@@ -95,6 +119,93 @@ public sealed interface Condition<A, B, C> extends Evaluator
         return new ConditionImpl<>(first, second, third, predicate);
     }
 
+    /**
+     * Creates a Condition that only re-evaluates its predicate when the version of one of its input Cells changed.
+     * The predicate must therefore depend on nothing but its inputs, which is why this is never chosen implicitly.
+     */
+    static <A, B, C> Condition<A, B, C> incremental(@NotNull final Cell<A> first,
+                                                    @NotNull final Cell<B> second,
+                                                    @NotNull final Cell<C> third,
+                                                    @NotNull final TriPredicate<? super A, ? super B, ? super C> predicate)
+    {
+        return new IncrementalCondition<>(first, second, third, predicate, new Cell.Tracker(first, second, third));
+    }
+
+    /**
+     * Creates a Condition whose inputs are each computed at most once per epoch.
+     * Inputs that are already {@link EpochSupplier}s of the same epoch are used as-is, so an input shared by several
+     * Conditions should be wrapped once with {@link Epoch#memoize} or {@link EpochSupplier#of} and that wrapper passed
+     * to each of them. Passing the raw Supplier instead creates a separate memo per Condition, and it is then
+     * computed once per Condition per epoch rather than once per epoch.
+     */
+    static <A, B, C> Condition<A, B, C> memoized(@NotNull final LongSupplier epoch,
+                                                 final Supplier<A> first,
+                                                 final Supplier<B> second,
+                                                 final Supplier<C> third,
+                                                 @NotNull final TriPredicate<? super A, ? super B, ? super C> predicate)
+    {
+        return of(EpochSupplier.of(first, epoch), EpochSupplier.of(second, epoch), EpochSupplier.of(third, epoch), predicate);
+    }
+
+    /**
+     * Creates a copy of the Condition whose inputs are each computed at most once per epoch.
+     *
+     * @see #memoized(LongSupplier, Supplier, Supplier, Supplier, TriPredicate)
+     */
+    static <A, B, C> Condition<A, B, C> memoized(@NotNull final LongSupplier epoch,
+                                                 @NotNull final Condition<A, B, C> condition)
+    {
+        return memoized(epoch, condition.first(), condition.second(), condition.third(), condition.predicate());
+    }
+
+    /**
+     * Creates a Runnable of a Condition whose inputs are each computed at most once per epoch.
+     *
+     * @see #memoized(LongSupplier, Supplier, Supplier, Supplier, TriPredicate)
+     */
+    static <A, B, C> Runnable runOnMemoizedCondition(@NotNull final LongSupplier epoch,
+                                                     final Supplier<A> first,
+                                                     final Supplier<B> second,
+                                                     final Supplier<C> third,
+                                                     @NotNull final TriPredicate<? super A, ? super B, ? super C> predicate,
+                                                     @NotNull final Consumer<Condition<A, B, C>> consumer)
+    {
+        return runOnCondition(EpochSupplier.of(first, epoch), EpochSupplier.of(second, epoch), EpochSupplier.of(third, epoch), predicate, consumer);
+    }
+
+    static <A, B, C> Condition<A, B, C> onEdge(@NotNull final Condition<A, B, C> condition,
+                                               @NotNull final Edge edge)
+    {
+        return onEdge(condition, edge, 1);
+    }
+
+    static <A, B, C> Condition<A, B, C> onEdge(@NotNull final Condition<A, B, C> condition,
+                                               @NotNull final Edge edge,
+                                               final int debounce)
+    {
+        return new ConditionImpl<>(condition.first(), condition.second(), condition.third(), StatefulPredicates.edge(condition.predicate(), edge, debounce));
+    }
+
+    static <A, B, C> Condition<A, B, C> debounced(@NotNull final Condition<A, B, C> condition,
+                                                  final int debounce)
+    {
+        return new ConditionImpl<>(condition.first(), condition.second(), condition.third(), StatefulPredicates.debounce(condition.predicate(), debounce));
+    }
+
+    static <N extends Number> Condition<N, Object, Object> hysteresis(final Supplier<N> value,
+                                                                      final double low,
+                                                                      final double high)
+    {
+        return new ConditionImpl<>(value, Dummies.dummySupplier(), Dummies.dummySupplier(), StatefulPredicates.hysteresis(low, high));
+    }
+
+    static <A, B, C> Runnable runOnEdge(@NotNull final Condition<A, B, C> condition,
+                                        @NotNull final Edge edge,
+                                        @NotNull final Consumer<Condition<A, B, C>> consumer)
+    {
+        return runOnCondition(onEdge(condition, edge), consumer);
+    }
+
     static <A, B, C> Runnable runOnCondition(@NotNull final Condition<A, B, C> condition,
                                              @NotNull final Consumer<Condition<A, B, C>> consumer)
     {
@@ -110,18 +221,146 @@ public sealed interface Condition<A, B, C> extends Evaluator
         return new ConditionalRunnable<>(first, second, third, predicate, consumer);
     }
 
+    /**
+     * The transitions of a Condition that an edge-triggered Condition reacts to.
+     */
+    enum Edge
+    {
+        RISING,
+        FALLING,
+        BOTH;
+
+        boolean test(final boolean newState)
+        {
+            return switch (this) {
+                case RISING  -> newState;
+                case FALLING -> !newState;
+                case BOTH    -> true;
+            };
+        }
+    }
+
     record ConditionImpl<A, B, C>(@Override Supplier<A> first,
                                   @Override Supplier<B> second,
                                   @Override Supplier<C> third,
                                   @Override @NotNull TriPredicate<? super A, ? super B, ? super C> predicate)
         implements Condition<A, B, C>
     {
+        // A shared instance so that it can be recognised and folded by an EvaluatorBuilder
+        private static final ConditionImpl<Object, Object, Object> ALWAYS_TRUE =
+            new ConditionImpl<>(Dummies.dummySupplier(), Dummies.dummySupplier(), Dummies.dummySupplier(), (a, b, c) -> true);
+
         public ConditionImpl
         {
             Objects.requireNonNull(predicate, "Must have a predicate for condition");
         }
     }
 
+    record IncrementalCondition<A, B, C>(@Override Cell<A> first,
+                                         @Override Cell<B> second,
+                                         @Override Cell<C> third,
+                                         @Override @NotNull TriPredicate<? super A, ? super B, ? super C> predicate,
+                                         @NotNull Cell.Tracker tracker)
+        implements Condition<A, B, C>
+    {
+        public IncrementalCondition
+        {
+            Objects.requireNonNull(first, "Must have cells for an incremental condition.");
+            Objects.requireNonNull(second, "Must have cells for an incremental condition.");
+            Objects.requireNonNull(third, "Must have cells for an incremental condition.");
+            Objects.requireNonNull(predicate, "Must have a predicate for condition");
+            Objects.requireNonNull(tracker, "Must have a tracker for an incremental condition.");
+        }
+
+        @Override
+        public boolean evaluate()
+        {
+            synchronized (tracker) {
+                if (tracker.update()) {
+                    tracker.result = predicate.test(first.get(), second.get(), third.get());
+                }
+                return tracker.result;
+            }
+        }
+    }
+
+    record ContingentCondition<A, B>(@NotNull BooleanSupplier contingency,
+                                     @Override Supplier<A> first,
+                                     @Override Supplier<B> second,
+                                     @NotNull BiPredicate<? super A, ? super B> condition)
+        implements Condition<A, B, Boolean>
+    {
+        public ContingentCondition
+        {
+            Objects.requireNonNull(contingency, "Must have a contingency for the condition.");
+            Objects.requireNonNull(condition, "Must have a predicate for condition");
+        }
+
+        @Override
+        public Supplier<Boolean> third()
+        {
+            return contingency::getAsBoolean;
+        }
+
+        @Override
+        public TriPredicate<? super A, ? super B, ? super Boolean> predicate()
+        {
+            return (a, b, contingent) -> contingent && condition.test(a, b);
+        }
+
+        @Override
+        public boolean evaluate()
+        {
+            // the inputs are not supplied unless the contingency holds
+            return contingency.getAsBoolean() && condition.test(first.get(), second.get());
+        }
+    }
+
+    record IntCondition(@NotNull IntSupplier firstInt,
+                        @NotNull IntSupplier secondInt,
+                        @NotNull IntSupplier thirdInt,
+                        @NotNull IntTriPredicate intPredicate)
+        implements Condition<Integer, Integer, Integer>
+    {
+        public IntCondition
+        {
+            Objects.requireNonNull(firstInt, "Must have suppliers for an int condition.");
+            Objects.requireNonNull(secondInt, "Must have suppliers for an int condition.");
+            Objects.requireNonNull(thirdInt, "Must have suppliers for an int condition.");
+            Objects.requireNonNull(intPredicate, "Must have a predicate for condition");
+        }
+
+        @Override
+        public Supplier<Integer> first()
+        {
+            return firstInt::getAsInt;
+        }
+
+        @Override
+        public Supplier<Integer> second()
+        {
+            return secondInt::getAsInt;
+        }
+
+        @Override
+        public Supplier<Integer> third()
+        {
+            return thirdInt::getAsInt;
+        }
+
+        @Override
+        public TriPredicate<? super Integer, ? super Integer, ? super Integer> predicate()
+        {
+            return (a, b, c) -> intPredicate.test(a, b, c);
+        }
+
+        @Override
+        public boolean evaluate()
+        {
+            return intPredicate.test(firstInt.getAsInt(), secondInt.getAsInt(), thirdInt.getAsInt());
+        }
+    }
+
     record ConditionalRunnable<A, B, C>(@Override Supplier<A> first,
                                         @Override Supplier<B> second,
                                         @Override Supplier<C> third,
@@ -138,7 +377,7 @@ public sealed interface Condition<A, B, C> extends Evaluator
         @Override
         public void run()
         {
-            if (evaluate()) {
+            if (Evaluations.evaluate(this)) {
                 consumer().accept(this);
             }
         }
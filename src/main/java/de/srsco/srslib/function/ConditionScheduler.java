@@ -0,0 +1,264 @@
+/*
+ * Project      : srsLib
+ * File         : ConditionScheduler.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jetbrains.annotations.NotNull;
+
+import de.srsco.srslib.function.Condition.ConditionalRunnable;
+import de.srsco.srslib.metrics.Histogram;
+import de.srsco.srslib.metrics.Metrics;
+
+
+/**
+ * A scheduler that owns a set of {@link ConditionalRunnable}s and runs them as a batch once per {@link #tick}.
+ * <p>
+ * Each tick has two phases: the predicates of all registered runnables are evaluated in parallel chunks on an
+ * {@link Executor}, then the consumers of those that passed are applied, either on the calling thread in
+ * registration order (the default, for consumers that touch game state) or in parallel.
+ * Batches smaller than the parallel threshold are evaluated on the calling thread.
+ * The suppliers and predicates of registered runnables must therefore be safe to call from other threads.
+ * <p>
+ * eg: a virtual-thread scheduler: {@code new ConditionScheduler(Executors.newVirtualThreadPerTaskExecutor(), ApplyMode.CALLING_THREAD, 256)}
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class ConditionScheduler
+{
+    /**
+     * <h3>The default number of runnables below which a tick is evaluated on the calling thread.</h3>
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+
+    private static final Histogram TICK_NANOS = Metrics.histogram("srslib.condition.scheduler.tick_nanos");
+
+    private final CopyOnWriteArrayList<ConditionalRunnable<?, ?, ?>> runnables = new CopyOnWriteArrayList<>();
+    private final Executor executor;
+    private final ApplyMode applyMode;
+    private final int parallelThreshold;
+    private final int chunks;
+
+    private long ticks;
+    private long evaluated;
+    private long passed;
+    private long evaluateNanos;
+    private long applyNanos;
+    private volatile Stats stats = new Stats(0, 0, 0, 0, 0, 0, 0);
+
+    public ConditionScheduler()
+    {
+        this(ForkJoinPool.commonPool(), ApplyMode.CALLING_THREAD, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public ConditionScheduler(@NotNull final Executor executor, @NotNull final ApplyMode applyMode, final int parallelThreshold)
+    {
+        Objects.requireNonNull(executor, "An Executor is required for the scheduler.");
+        Objects.requireNonNull(applyMode, "An ApplyMode is required for the scheduler.");
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("The parallel threshold must be positive: " + parallelThreshold);
+        }
+        this.executor          = executor;
+        this.applyMode         = applyMode;
+        this.parallelThreshold = parallelThreshold;
+        this.chunks            = Math.max(1, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public ConditionScheduler register(@NotNull final ConditionalRunnable<?, ?, ?> runnable)
+    {
+        runnables.add(Objects.requireNonNull(runnable, "Can not register a null runnable."));
+        return this;
+    }
+
+    /**
+     * <h3>Registers a Runnable created by {@link Condition#runOnCondition}.</h3>
+     *
+     * @throws IllegalArgumentException if the Runnable is not a ConditionalRunnable.
+     */
+    public ConditionScheduler register(@NotNull final Runnable runnable)
+    {
+        if (!(runnable instanceof ConditionalRunnable<?, ?, ?> conditional)) {
+            throw new IllegalArgumentException("Only Runnables from Condition#runOnCondition can be scheduled: " + runnable);
+        }
+        return register(conditional);
+    }
+
+    public boolean unregister(final Runnable runnable)
+    {
+        return runnables.remove(runnable);
+    }
+
+    public int size()
+    {
+        return runnables.size();
+    }
+
+    public void clear()
+    {
+        runnables.clear();
+    }
+
+    /**
+     * <h3>Evaluates all registered runnables and applies the consumers of those that passed.</h3>
+     * This blocks until the whole batch has been applied and is intended to be called once per tick.
+     *
+     * @return The number of runnables whose conditions passed.
+     */
+    public int tick()
+    {
+        final var batch = runnables.toArray(ConditionalRunnable<?, ?, ?>[]::new);
+        final var results = new boolean[batch.length];
+
+        final long start = System.nanoTime();
+        forEachChunk(batch.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = Evaluations.evaluate(batch[i]);
+            }
+        });
+        final long evaluatedAt = System.nanoTime();
+
+        final int passes = count(results);
+        if (applyMode == ApplyMode.PARALLEL) {
+            forEachChunk(batch.length, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    if (results[i]) {
+                        apply(batch[i]);
+                    }
+                }
+            });
+        } else {
+            for (int i = 0; i < batch.length; i++) {
+                if (results[i]) {
+                    apply(batch[i]);
+                }
+            }
+        }
+        final long end = System.nanoTime();
+
+        ticks++;
+        evaluated += batch.length;
+        passed += passes;
+        evaluateNanos += evaluatedAt - start;
+        applyNanos += end - evaluatedAt;
+        stats = new Stats(ticks, evaluated, passed, batch.length, passes, evaluatedAt - start, end - evaluatedAt);
+        TICK_NANOS.record(end - start);
+        return passes;
+    }
+
+    /**
+     * <h3>Returns the throughput metrics as of the last completed tick.</h3>
+     */
+    public Stats stats()
+    {
+        return stats;
+    }
+
+    /**
+     * <h3>Returns the mean number of runnables evaluated per second across all ticks.</h3>
+     */
+    public double evaluationsPerSecond()
+    {
+        return evaluateNanos == 0 ? 0 : evaluated * 1e9 / evaluateNanos;
+    }
+
+    private void forEachChunk(final int size, final RangeAction action)
+    {
+        if (size < parallelThreshold) {
+            action.run(0, size);
+            return;
+        }
+        final int chunkSize = Math.max(parallelThreshold / 4, (size + chunks - 1) / chunks);
+        final var tasks = new ArrayList<CompletableFuture<Void>>();
+        for (int from = 0; from < size; from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(size, from + chunkSize);
+            tasks.add(CompletableFuture.runAsync(() -> action.run(start, end), executor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new)).join();
+    }
+
+    private static int count(final boolean[] results)
+    {
+        int count = 0;
+        for (final boolean result : results) {
+            if (result) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static <A, B, C> void apply(final ConditionalRunnable<A, B, C> runnable)
+    {
+        runnable.consumer().accept(runnable);
+    }
+
+    @FunctionalInterface
+    private interface RangeAction
+    {
+        void run(int from, int to);
+    }
+
+    /**
+     * Where the consumers of passed conditions are applied.
+     */
+    public enum ApplyMode
+    {
+        /** On the thread calling {@link #tick}, in registration order. */
+        CALLING_THREAD,
+        /** In parallel chunks on the scheduler's Executor. */
+        PARALLEL
+    }
+
+    /**
+     * <h3>A snapshot of the scheduler's throughput metrics.</h3>
+     *
+     * @param ticks             The number of completed ticks.
+     * @param evaluated         The total number of conditions evaluated.
+     * @param passed            The total number of conditions that passed.
+     * @param lastBatch         The number of conditions evaluated in the last tick.
+     * @param lastPassed        The number of conditions that passed in the last tick.
+     * @param lastEvaluateNanos The duration of the evaluation phase of the last tick.
+     * @param lastApplyNanos    The duration of the apply phase of the last tick.
+     */
+    public record Stats(long ticks, long evaluated, long passed, int lastBatch, int lastPassed, long lastEvaluateNanos, long lastApplyNanos)
+    {
+        public double passRate()
+        {
+            return evaluated == 0 ? 0 : (double) passed / evaluated;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Project      : srsLib
+ * File         : Epoch.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+
+/**
+ * A counter that marks the passing of an epoch, such as a game tick, for invalidating {@link EpochSupplier}s.
+ * An Epoch can be advanced explicitly once per tick, or any LongSupplier that changes once per tick
+ * (eg: {@code level::getGameTime}) can be used in its place.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class Epoch implements LongSupplier
+{
+    private final AtomicLong value = new AtomicLong();
+
+    /**
+     * <h3>Advances to the next epoch, invalidating all values memoized against this Epoch.</h3>
+     *
+     * @return The new epoch.
+     */
+    public long advance()
+    {
+        return value.incrementAndGet();
+    }
+
+    @Override
+    public long getAsLong()
+    {
+        return value.get();
+    }
+
+    /**
+     * <h3>Creates a Supplier that computes its value at most once per epoch of this Epoch.</h3>
+     *
+     * @see EpochSupplier#of(Supplier, LongSupplier)
+     */
+    public <T> EpochSupplier<T> memoize(final Supplier<T> delegate)
+    {
+        return EpochSupplier.of(delegate, this);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Project      : srsLib
+ * File         : EpochSupplier.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * A memoizing Supplier whose cached value is invalidated whenever its epoch changes.
+ * When several {@link Condition}s share an EpochSupplier, an expensive input is computed once per tick
+ * instead of once per evaluation.
+ *
+ * @param <T> The type of the supplied value.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class EpochSupplier<T> implements Supplier<T>
+{
+    private final Supplier<T> delegate;
+    private final LongSupplier epoch;
+    private volatile Memo<T> memo;
+
+    private EpochSupplier(final Supplier<T> delegate, final LongSupplier epoch)
+    {
+        this.delegate = delegate;
+        this.epoch    = epoch;
+    }
+
+    /**
+     * <h3>Creates a Supplier that computes the value of the delegate at most once per epoch.</h3>
+     * If the delegate is already an EpochSupplier of the same epoch, it is returned as-is.
+     *
+     * @param delegate The Supplier of the value.
+     * @param epoch    A source of the current epoch, such as an {@link Epoch} or a game time getter.
+     * @param <T>      The type of the supplied value.
+     * @return         A memoizing Supplier.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EpochSupplier<T> of(@NotNull final Supplier<T> delegate, @NotNull final LongSupplier epoch)
+    {
+        Objects.requireNonNull(delegate, "A Supplier is required for memoization.");
+        Objects.requireNonNull(epoch, "An epoch is required for memoization.");
+        if (delegate instanceof EpochSupplier<?> memoized && memoized.epoch == epoch) {
+            return (EpochSupplier<T>) memoized;
+        }
+        return new EpochSupplier<>(delegate, epoch);
+    }
+
+    @Override
+    public T get()
+    {
+        final long current = epoch.getAsLong();
+        final var cached = memo;
+        if (cached != null && cached.epoch == current) {
+            return cached.value;
+        }
+        final var value = delegate.get();
+        memo = new Memo<>(current, value);
+        return value;
+    }
+
+    /**
+     * <h3>Discards the cached value so that it is recomputed on the next call to {@link #get}.</h3>
+     */
+    public void invalidate()
+    {
+        memo = null;
+    }
+
+    /**
+     * <h3>A value and the epoch it was computed in, replaced as a whole so that readers never see a mismatched pair.</h3>
+     */
+    private record Memo<T>(long epoch, T value) {}
+}
@@ -0,0 +1,405 @@
+/*
+ * Project      : srsLib
+ * File         : EvaluatorBuilder.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * An immutable builder of {@link Evaluator} expressions that are optimized when built.
+ * <p>
+ * Unlike {@link Evaluator#and}/{@link Evaluator#or}/{@link Evaluator#negate}, which nest a lambda per operation and
+ * always evaluate in written order, building flattens chains of the same operation into a single n-ary
+ * {@link Junction}, folds constants such as {@link Condition#alwaysTrue()}, and removes double negations.
+ * An adaptive Junction samples the cost and pass rate of its operands and periodically reorders them so that cheap,
+ * decisive operands are evaluated first. Operands must therefore be free of side effects that depend on ordering.
+ * Built Evaluators are safe to share between threads, such as the workers of a {@link ConditionScheduler}.
+ * <p>
+ * eg: {@code EvaluatorBuilder.of(isNight).and(hasPlayers).and(EvaluatorBuilder.of(isRaining).or(isThundering)).build()}
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class EvaluatorBuilder
+{
+    /**
+     * <h3>Operand timings are sampled on average once in this many evaluations of a Junction.</h3>
+     */
+    public static final int SAMPLE_PERIOD = 1 << 4;
+
+    /**
+     * <h3>Operands are reordered on average once in this many evaluations of a Junction.</h3>
+     */
+    public static final int REORDER_PERIOD = 1 << 10;
+
+    private final Node node;
+
+    private EvaluatorBuilder(final Node node)
+    {
+        this.node = node;
+    }
+
+    public static EvaluatorBuilder of(@NotNull final Evaluator evaluator)
+    {
+        Objects.requireNonNull(evaluator);
+        return new EvaluatorBuilder(evaluator == Condition.alwaysTrue() ? new Const(true)
+                                  : evaluator instanceof Constant constant ? new Const(constant.evaluate())
+                                  : new Leaf(evaluator));
+    }
+
+    public static EvaluatorBuilder constant(final boolean value)
+    {
+        return new EvaluatorBuilder(new Const(value));
+    }
+
+    public static EvaluatorBuilder allOf(@NotNull final Evaluator... evaluators)
+    {
+        return new EvaluatorBuilder(new All(Arrays.stream(evaluators).map(e -> of(e).node).toList()));
+    }
+
+    public static EvaluatorBuilder anyOf(@NotNull final Evaluator... evaluators)
+    {
+        return new EvaluatorBuilder(new Any(Arrays.stream(evaluators).map(e -> of(e).node).toList()));
+    }
+
+    public EvaluatorBuilder and(@NotNull final Evaluator other)
+    {
+        return and(of(other));
+    }
+
+    public EvaluatorBuilder and(@NotNull final EvaluatorBuilder other)
+    {
+        Objects.requireNonNull(other);
+        return new EvaluatorBuilder(new All(List.of(node, other.node)));
+    }
+
+    public EvaluatorBuilder or(@NotNull final Evaluator other)
+    {
+        return or(of(other));
+    }
+
+    public EvaluatorBuilder or(@NotNull final EvaluatorBuilder other)
+    {
+        Objects.requireNonNull(other);
+        return new EvaluatorBuilder(new Any(List.of(node, other.node)));
+    }
+
+    public EvaluatorBuilder negate()
+    {
+        return new EvaluatorBuilder(new Not(node));
+    }
+
+    /**
+     * <h3>Builds an optimized Evaluator with adaptive operand ordering.</h3>
+     *
+     * @return An Evaluator equivalent to the built expression.
+     */
+    public Evaluator build()
+    {
+        return compile(simplify(node), true);
+    }
+
+    /**
+     * <h3>Builds an optimized Evaluator that keeps operands in written order.</h3>
+     *
+     * @return An Evaluator equivalent to the built expression.
+     */
+    public Evaluator buildFixed()
+    {
+        return compile(simplify(node), false);
+    }
+
+
+    /* Expression tree */
+
+    private sealed interface Node permits Leaf, Const, Not, All, Any {}
+
+    private record Leaf(Evaluator evaluator) implements Node {}
+
+    private record Const(boolean value) implements Node {}
+
+    private record Not(Node operand) implements Node {}
+
+    private record All(List<Node> operands) implements Node {}
+
+    private record Any(List<Node> operands) implements Node {}
+
+    private static Node simplify(final Node node)
+    {
+        return switch (node) {
+            case Not(var operand) -> switch (simplify(operand)) {
+                case Const(var value) -> new Const(!value);
+                case Not(var inner)   -> inner;
+                case Node other       -> new Not(other);
+            };
+            case All(var operands) -> junction(operands, true);
+            case Any(var operands) -> junction(operands, false);
+            case Node other        -> other;
+        };
+    }
+
+    /**
+     * <h3>Flattens nested junctions of the same kind and folds constants.</h3>
+     * For a conjunction, true operands are dropped and a false operand decides the result, and vice versa.
+     */
+    private static Node junction(final List<Node> operands, final boolean conjunction)
+    {
+        final var flat = new ArrayList<Node>(operands.size());
+        for (final var operand : operands) {
+            switch (simplify(operand)) {
+                case Const(var value) when value == conjunction -> {}
+                case Const decisive                             -> {
+                    return decisive;
+                }
+                case All(var inner) when conjunction            -> flat.addAll(inner);
+                case Any(var inner) when !conjunction           -> flat.addAll(inner);
+                case Node other                                 -> flat.add(other);
+            }
+        }
+        if (flat.isEmpty()) {
+            return new Const(conjunction);
+        }
+        if (flat.size() == 1) {
+            return flat.getFirst();
+        }
+        return conjunction ? new All(flat) : new Any(flat);
+    }
+
+    private static Evaluator compile(final Node node, final boolean adaptive)
+    {
+        return switch (node) {
+            case Leaf(var evaluator) -> evaluator;
+            case Const(var value)    -> value ? Constant.TRUE : Constant.FALSE;
+            case Not(var operand)    -> compile(operand, adaptive).negate();
+            case All(var operands)   -> new Junction(true, adaptive, operands.stream().map(n -> compile(n, adaptive)).toArray(Evaluator[]::new));
+            case Any(var operands)   -> new Junction(false, adaptive, operands.stream().map(n -> compile(n, adaptive)).toArray(Evaluator[]::new));
+        };
+    }
+
+
+    /* Compiled forms */
+
+    /**
+     * Constant Evaluators produced by folding.
+     */
+    public enum Constant implements Evaluator
+    {
+        TRUE,
+        FALSE;
+
+        @Override
+        public boolean evaluate()
+        {
+            return this == TRUE;
+        }
+    }
+
+    /**
+     * <h3>The sampled statistics of an operand of a Junction.</h3>
+     *
+     * @param evaluator The operand.
+     * @param samples   The number of sampled evaluations of the operand, decayed over time.
+     * @param passes    The number of sampled evaluations that returned true, decayed over time.
+     * @param nanos     The total duration of the sampled evaluations in nanoseconds, decayed over time.
+     */
+    public record OperandStats(Evaluator evaluator, long samples, long passes, long nanos)
+    {
+        public double passRate()
+        {
+            return samples == 0 ? 0.5 : (double) passes / samples;
+        }
+
+        public double meanNanos()
+        {
+            return samples == 0 ? 0 : (double) nanos / samples;
+        }
+    }
+
+    /**
+     * An n-ary conjunction or disjunction of operands that short-circuits in its current operand order.
+     * <p>
+     * Whether an evaluation is sampled is decided per thread, without a shared counter. Sampled statistics are only
+     * updated by the thread holding the sampling lock, and a thread that fails to acquire it evaluates without
+     * sampling, so evaluations never wait on each other. The operand order is replaced as a whole and published
+     * through a volatile field.
+     */
+    public static final class Junction implements Evaluator
+    {
+        private static final int SAMPLES_PER_REORDER = REORDER_PERIOD / SAMPLE_PERIOD;
+
+        private final boolean conjunction;
+        private final boolean adaptive;
+        private final Operand[] operands;
+        private final ReentrantLock sampling = new ReentrantLock();
+        private volatile Operand[] order;
+        private int samplesSinceReorder;
+
+        private Junction(final boolean conjunction, final boolean adaptive, final Evaluator[] evaluators)
+        {
+            this.conjunction = conjunction;
+            this.adaptive    = adaptive;
+            this.operands    = new Operand[evaluators.length];
+            for (int i = 0; i < evaluators.length; i++) {
+                operands[i] = new Operand(evaluators[i], i);
+            }
+            this.order       = operands;
+        }
+
+        @Override
+        public boolean evaluate()
+        {
+            final var current = order;
+            if (adaptive && ThreadLocalRandom.current().nextInt(SAMPLE_PERIOD) == 0 && sampling.tryLock()) {
+                try {
+                    return sample(current);
+                } finally {
+                    sampling.unlock();
+                }
+            }
+            for (final var operand : current) {
+                if (operand.evaluator.evaluate() != conjunction) {
+                    return !conjunction;
+                }
+            }
+            return conjunction;
+        }
+
+        public boolean isConjunction()
+        {
+            return conjunction;
+        }
+
+        /**
+         * <h3>Returns the statistics of each operand in written order.</h3>
+         */
+        public List<OperandStats> stats()
+        {
+            sampling.lock();
+            try {
+                return Arrays.stream(operands).map(op -> new OperandStats(op.evaluator, op.samples, op.passes, op.nanos)).toList();
+            } finally {
+                sampling.unlock();
+            }
+        }
+
+        /**
+         * <h3>Returns the operands in their current evaluation order.</h3>
+         */
+        public List<Evaluator> evaluationOrder()
+        {
+            return Arrays.stream(order).map(op -> op.evaluator).toList();
+        }
+
+        private boolean sample(final Operand[] current)
+        {
+            var result = conjunction;
+            for (final var operand : current) {
+                final long start = System.nanoTime();
+                final boolean pass = operand.evaluator.evaluate();
+                operand.record(System.nanoTime() - start, pass);
+                if (pass != conjunction) {
+                    result = !conjunction;
+                    break;
+                }
+            }
+            if (++samplesSinceReorder == SAMPLES_PER_REORDER) {
+                samplesSinceReorder = 0;
+                reorder();
+            }
+            return result;
+        }
+
+        /**
+         * <h3>Orders operands by their expected cost per short-circuit, then halves their statistics to favour recent samples.</h3>
+         * Operands that have not been sampled yet are assumed to have the mean cost and an even pass rate.
+         * The scores are calculated into a local array first, so that they can not change while sorting.
+         * Must only be called while holding the sampling lock.
+         */
+        private void reorder()
+        {
+            final double meanCost = Arrays.stream(operands).filter(op -> op.samples > 0).mapToDouble(op -> (double) op.nanos / op.samples).average().orElse(1);
+            final double[] scores = new double[operands.length];
+            for (final var operand : operands) {
+                final double cost = operand.samples == 0 ? meanCost : Math.max(1, (double) operand.nanos / operand.samples);
+                final double passRate = operand.samples == 0 ? 0.5 : (double) operand.passes / operand.samples;
+                final double decisive = conjunction ? 1 - passRate : passRate;
+                scores[operand.index] = cost / Math.max(decisive, 1e-3);
+            }
+            final var sorted = order.clone();
+            Arrays.sort(sorted, Comparator.comparingDouble(operand -> scores[operand.index]));
+            for (final var operand : operands) {
+                operand.decay();
+            }
+            order = sorted;
+        }
+    }
+
+    /**
+     * <h3>An operand with its sampled statistics, which are guarded by the sampling lock of its Junction.</h3>
+     */
+    private static final class Operand
+    {
+        private final Evaluator evaluator;
+        private final int index;
+        private long samples;
+        private long passes;
+        private long nanos;
+
+        private Operand(final Evaluator evaluator, final int index)
+        {
+            this.evaluator = evaluator;
+            this.index     = index;
+        }
+
+        private void record(final long duration, final boolean pass)
+        {
+            samples++;
+            nanos += duration;
+            if (pass) {
+                passes++;
+            }
+        }
+
+        private void decay()
+        {
+            samples >>= 1;
+            passes >>= 1;
+            nanos >>= 1;
+        }
+    }
+}
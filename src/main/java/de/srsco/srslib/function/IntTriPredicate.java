@@ -0,0 +1,62 @@
+/*
+ * Project      : srsLib
+ * File         : IntTriPredicate.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT) 
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the 
+ * "Software"), to deal in the Software without restriction, including 
+ * without limitation the rights to use, copy, modify, merge, publish, 
+ * distribute, sublicense, and/or sell copies of the Software, and to 
+ * permit persons to whom the Software is furnished to do so, subject to 
+ * the following conditions: 
+ *
+ * The above copyright notice and this permission notice shall be included 
+ * in all copies or substantial portions of the Software. 
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS 
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF 
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. 
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY 
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, 
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE 
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. 
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.Objects;
+
+
+/**
+ * A predicate that takes 3 unboxed ints and returns a boolean, such as block coordinates.
+ *
+ * @see TriPredicate
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@FunctionalInterface
+public interface IntTriPredicate
+{
+    boolean test(int a, int b, int c);
+
+    default IntTriPredicate and(IntTriPredicate other)
+    {
+        Objects.requireNonNull(other);
+        return (a, b, c) -> test(a, b, c) && other.test(a, b, c);
+    }
+
+    default IntTriPredicate negate()
+    {
+        return (a, b, c) -> !test(a, b, c);
+    }
+
+    default IntTriPredicate or(IntTriPredicate other)
+    {
+        Objects.requireNonNull(other);
+        return (a, b, c) -> test(a, b, c) || other.test(a, b, c);
+    }
+}
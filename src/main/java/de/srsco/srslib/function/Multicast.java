@@ -0,0 +1,344 @@
+/*
+ * Project      : srsLib
+ * File         : Multicast.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Multicasters that hold a flat array of {@link TriConsumer}s or {@link TriPredicate}s and iterate it on each call.
+ * <p>
+ * Chaining {@link TriConsumer#andThen} or {@link TriPredicate#and}/{@link TriPredicate#or} n times nests n lambdas,
+ * which recurse n deep on every call and make each nested call site megamorphic. A multicaster invokes all of its
+ * members from a single loop, supports removal, and stays flat when chained further or when given another multicaster
+ * of the same kind. Members are stored copy-on-write, so listeners can be added and removed during a dispatch,
+ * which will complete with the members present when it started.
+ * <p>
+ * A multicaster that is added to another contributes the members it has at that time, and removing it again removes
+ * those same members, even if it has changed since.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class Multicast
+{
+    private Multicast() {}
+
+    /**
+     * <h3>Creates a multicaster that passes its arguments to each of the consumers in order.</h3>
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <A, B, C> Consumers<A, B, C> consumers(@NotNull final TriConsumer<? super A, ? super B, ? super C>... consumers)
+    {
+        final var multicaster = new Consumers<A, B, C>();
+        for (final var consumer : consumers) {
+            multicaster.add(consumer);
+        }
+        return multicaster;
+    }
+
+    /**
+     * <h3>Creates a multicaster that is true if all of the predicates are, evaluated in order with short-circuiting.</h3>
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <A, B, C> Predicates<A, B, C> allOf(@NotNull final TriPredicate<? super A, ? super B, ? super C>... predicates)
+    {
+        return new Predicates<A, B, C>(true).addAll(predicates);
+    }
+
+    /**
+     * <h3>Creates a multicaster that is true if any of the predicates are, evaluated in order with short-circuiting.</h3>
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <A, B, C> Predicates<A, B, C> anyOf(@NotNull final TriPredicate<? super A, ? super B, ? super C>... predicates)
+    {
+        return new Predicates<A, B, C>(false).addAll(predicates);
+    }
+
+    /**
+     * A TriConsumer that multicasts to a flat array of TriConsumers.
+     */
+    public static final class Consumers<A, B, C> implements TriConsumer<A, B, C>
+    {
+        private static final TriConsumer<?, ?, ?>[] EMPTY = new TriConsumer<?, ?, ?>[0];
+
+        private volatile TriConsumer<? super A, ? super B, ? super C>[] members = empty();
+        private final List<Flattened> flattened = new ArrayList<>();
+
+        private Consumers() {}
+
+        @Override
+        public void accept(final A a, final B b, final C c)
+        {
+            for (final var member : members) {
+                member.accept(a, b, c);
+            }
+        }
+
+        /**
+         * <h3>Returns a new multicaster with the members of this one followed by the consumer.</h3>
+         */
+        @Override
+        public Consumers<A, B, C> andThen(final TriConsumer<? super A, ? super B, ? super C> after)
+        {
+            Objects.requireNonNull(after);
+            final var copy = new Consumers<A, B, C>();
+            synchronized (this) {
+                copy.members = members;
+                copy.flattened.addAll(flattened);
+            }
+            return copy.add(after);
+        }
+
+        /**
+         * <h3>Adds a consumer, or the members of a Consumers multicaster, to the end of this multicaster.</h3>
+         */
+        @SuppressWarnings("unchecked")
+        public synchronized Consumers<A, B, C> add(@NotNull final TriConsumer<? super A, ? super B, ? super C> consumer)
+        {
+            Objects.requireNonNull(consumer, "Can not add a null consumer.");
+            final TriConsumer<? super A, ? super B, ? super C>[] added;
+            if (consumer instanceof Consumers<?, ?, ?> other) {
+                added = (TriConsumer<? super A, ? super B, ? super C>[]) other.members;
+                flattened.add(new Flattened(other, added));
+            } else {
+                added = (TriConsumer<? super A, ? super B, ? super C>[]) new TriConsumer<?, ?, ?>[] {consumer};
+            }
+            members = concat(members, added);
+            return this;
+        }
+
+        /**
+         * <h3>Removes the first occurrence of a consumer, or the members that a Consumers multicaster contributed when it was added.</h3>
+         *
+         * @return true if the consumer was a member or the multicaster had been added.
+         */
+        public synchronized boolean remove(final TriConsumer<? super A, ? super B, ? super C> consumer)
+        {
+            final var removed = consumer instanceof Consumers<?, ?, ?> ? withoutFlattened(members, flattened, consumer) : without(members, consumer);
+            if (removed == members) {
+                return false;
+            }
+            members = removed;
+            return true;
+        }
+
+        public int size()
+        {
+            return members.length;
+        }
+
+        public List<TriConsumer<? super A, ? super B, ? super C>> members()
+        {
+            return List.of(members);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <A, B, C> TriConsumer<? super A, ? super B, ? super C>[] empty()
+        {
+            return (TriConsumer<? super A, ? super B, ? super C>[]) EMPTY;
+        }
+    }
+
+    /**
+     * A TriPredicate that evaluates a flat array of TriPredicates as a conjunction or a disjunction.
+     */
+    public static final class Predicates<A, B, C> implements TriPredicate<A, B, C>
+    {
+        private static final TriPredicate<?, ?, ?>[] EMPTY = new TriPredicate<?, ?, ?>[0];
+
+        private final boolean conjunction;
+        private volatile TriPredicate<? super A, ? super B, ? super C>[] members = empty();
+        private final List<Flattened> flattened = new ArrayList<>();
+
+        private Predicates(final boolean conjunction)
+        {
+            this.conjunction = conjunction;
+        }
+
+        @Override
+        public boolean test(final A a, final B b, final C c)
+        {
+            for (final var member : members) {
+                if (member.test(a, b, c) != conjunction) {
+                    return !conjunction;
+                }
+            }
+            return conjunction;
+        }
+
+        /**
+         * <h3>For a conjunction, returns a new multicaster with the predicate appended, otherwise nests as usual.</h3>
+         */
+        @Override
+        public TriPredicate<A, B, C> and(final TriPredicate<? super A, ? super B, ? super C> other)
+        {
+            return conjunction ? copy().add(other) : TriPredicate.super.and(other);
+        }
+
+        /**
+         * <h3>For a disjunction, returns a new multicaster with the predicate appended, otherwise nests as usual.</h3>
+         */
+        @Override
+        public TriPredicate<A, B, C> or(final TriPredicate<? super A, ? super B, ? super C> other)
+        {
+            return conjunction ? TriPredicate.super.or(other) : copy().add(other);
+        }
+
+        public boolean isConjunction()
+        {
+            return conjunction;
+        }
+
+        /**
+         * <h3>Adds a predicate, or the members of a Predicates multicaster of the same kind, to the end of this multicaster.</h3>
+         */
+        @SuppressWarnings("unchecked")
+        public synchronized Predicates<A, B, C> add(@NotNull final TriPredicate<? super A, ? super B, ? super C> predicate)
+        {
+            Objects.requireNonNull(predicate, "Can not add a null predicate.");
+            final TriPredicate<? super A, ? super B, ? super C>[] added;
+            if (predicate instanceof Predicates<?, ?, ?> other && other.conjunction == conjunction) {
+                added = (TriPredicate<? super A, ? super B, ? super C>[]) other.members;
+                flattened.add(new Flattened(other, added));
+            } else {
+                added = (TriPredicate<? super A, ? super B, ? super C>[]) new TriPredicate<?, ?, ?>[] {predicate};
+            }
+            members = concat(members, added);
+            return this;
+        }
+
+        /**
+         * <h3>Removes the first occurrence of a predicate, or the members that a Predicates multicaster of the same kind contributed when it was added.</h3>
+         *
+         * @return true if the predicate was a member or the multicaster had been added.
+         */
+        public synchronized boolean remove(final TriPredicate<? super A, ? super B, ? super C> predicate)
+        {
+            final var removed = predicate instanceof Predicates<?, ?, ?> other && other.conjunction == conjunction
+                ? withoutFlattened(members, flattened, predicate)
+                : without(members, predicate);
+            if (removed == members) {
+                return false;
+            }
+            members = removed;
+            return true;
+        }
+
+        public int size()
+        {
+            return members.length;
+        }
+
+        public List<TriPredicate<? super A, ? super B, ? super C>> members()
+        {
+            return List.of(members);
+        }
+
+        @SafeVarargs
+        private Predicates<A, B, C> addAll(final TriPredicate<? super A, ? super B, ? super C>... predicates)
+        {
+            for (final var predicate : predicates) {
+                add(predicate);
+            }
+            return this;
+        }
+
+        private synchronized Predicates<A, B, C> copy()
+        {
+            final var copy = new Predicates<A, B, C>(conjunction);
+            copy.members = members;
+            copy.flattened.addAll(flattened);
+            return copy;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <A, B, C> TriPredicate<? super A, ? super B, ? super C>[] empty()
+        {
+            return (TriPredicate<? super A, ? super B, ? super C>[]) EMPTY;
+        }
+    }
+
+    private static <T> T[] concat(final T[] members, final T[] added)
+    {
+        final var result = Arrays.copyOf(members, members.length + added.length);
+        System.arraycopy(added, 0, result, members.length, added.length);
+        return result;
+    }
+
+    /**
+     * <h3>Returns a copy of the members without those contributed by the first flattening of the source, or the same array if it was never added.</h3>
+     * Each contributed member is removed by its first occurrence, and members that have already been removed are skipped.
+     */
+    private static <T> T[] withoutFlattened(final T[] members, final List<Flattened> flattened, final Object source)
+    {
+        for (int i = 0; i < flattened.size(); i++) {
+            if (flattened.get(i).source() == source) {
+                var result = members;
+                for (final var member : flattened.remove(i).members()) {
+                    result = without(result, member);
+                }
+                return result == members ? Arrays.copyOf(members, members.length) : result;
+            }
+        }
+        return members;
+    }
+
+    /**
+     * <h3>Returns a copy of the members without the first occurrence of the member, or the same array if it is absent.</h3>
+     */
+    private static <T> T[] without(final T[] members, final Object member)
+    {
+        for (int i = 0; i < members.length; i++) {
+            if (members[i].equals(member)) {
+                final var result = Arrays.copyOf(members, members.length - 1);
+                System.arraycopy(members, i + 1, result, i, members.length - i - 1);
+                return result;
+            }
+        }
+        return members;
+    }
+
+    /**
+     * <h3>A multicaster that was flattened into another, and the members it contributed.</h3>
+     */
+    private record Flattened(Object source, Object[] members) {}
+}
@@ -0,0 +1,166 @@
+/*
+ * Project      : srsLib
+ * File         : StatefulPredicates.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * TriPredicates that remember previous results, for building {@link Condition}s that react to transitions of a
+ * state rather than to the state itself. The state is a couple of primitive fields per predicate, and is not
+ * synchronized, so each instance should only be evaluated from a single thread.
+ *
+ * @see Condition#onEdge(Condition, Condition.Edge, int)
+ * @see Condition#debounced(Condition, int)
+ * @see Condition#hysteresis(java.util.function.Supplier, double, double)
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class StatefulPredicates
+{
+    private StatefulPredicates() {}
+
+    /**
+     * <h3>Creates a predicate that is true only when the debounced result of the delegate changes in the direction of the edge.</h3>
+     *
+     * @param delegate The predicate whose transitions are detected.
+     * @param edge     The transitions that produce a true result.
+     * @param debounce The number of consecutive evaluations a changed result must hold before it is accepted, 1 for none.
+     * @return         An edge-triggered predicate whose initial state is false.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <A, B, C> TriPredicate<A, B, C> edge(@NotNull final TriPredicate<? super A, ? super B, ? super C> delegate,
+                                                       @NotNull final Condition.Edge edge,
+                                                       final int debounce)
+    {
+        Objects.requireNonNull(edge, "An edge is required.");
+        return new Debounced<>(delegate, edge, debounce);
+    }
+
+    /**
+     * <h3>Creates a predicate that follows the delegate, but only once a changed result has held for a number of evaluations.</h3>
+     *
+     * @param delegate The predicate to debounce.
+     * @param debounce The number of consecutive evaluations a changed result must hold before it is accepted.
+     * @return         A level-triggered debounced predicate whose initial state is false.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <A, B, C> TriPredicate<A, B, C> debounce(@NotNull final TriPredicate<? super A, ? super B, ? super C> delegate,
+                                                           final int debounce)
+    {
+        return new Debounced<>(delegate, null, debounce);
+    }
+
+    /**
+     * <h3>Creates a predicate on a number that turns true at or above the high threshold and false at or below the low threshold.</h3>
+     * Between the thresholds the previous result is kept, so a value hovering around a single threshold does not flap.
+     *
+     * @param low  The threshold at or below which the result turns false.
+     * @param high The threshold at or above which the result turns true.
+     * @return     A predicate on its first argument whose initial state is false.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <N extends Number> TriPredicate<N, Object, Object> hysteresis(final double low, final double high)
+    {
+        if (!(low <= high)) {
+            throw new IllegalArgumentException("The low threshold must not exceed the high threshold: " + low + " > " + high);
+        }
+        return new Hysteresis<>(low, high);
+    }
+
+    private static final class Debounced<A, B, C> implements TriPredicate<A, B, C>
+    {
+        private final TriPredicate<? super A, ? super B, ? super C> delegate;
+        @Nullable
+        private final Condition.Edge edge;
+        private final int debounce;
+        private boolean state;
+        private int pending;
+
+        private Debounced(final TriPredicate<? super A, ? super B, ? super C> delegate, @Nullable final Condition.Edge edge, final int debounce)
+        {
+            Objects.requireNonNull(delegate, "Must have a predicate to debounce.");
+            if (debounce < 1) {
+                throw new IllegalArgumentException("The debounce count must be positive: " + debounce);
+            }
+            this.delegate = delegate;
+            this.edge     = edge;
+            this.debounce = debounce;
+        }
+
+        @Override
+        public boolean test(final A a, final B b, final C c)
+        {
+            final boolean raw = delegate.test(a, b, c);
+            if (raw == state) {
+                pending = 0;
+                return edge == null && state;
+            }
+            if (++pending < debounce) {
+                return edge == null && state;
+            }
+            pending = 0;
+            state = raw;
+            return edge == null ? state : edge.test(state);
+        }
+    }
+
+    private static final class Hysteresis<N extends Number> implements TriPredicate<N, Object, Object>
+    {
+        private final double low;
+        private final double high;
+        private boolean state;
+
+        private Hysteresis(final double low, final double high)
+        {
+            this.low  = low;
+            this.high = high;
+        }
+
+        @Override
+        public boolean test(final N value, final Object b, final Object c)
+        {
+            final double current = value.doubleValue();
+            if (current >= high) {
+                state = true;
+            } else if (current <= low) {
+                state = false;
+            }
+            return state;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Project      : srsLib
+ * File         : TypeChecks.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT) 
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the 
+ * "Software"), to deal in the Software without restriction, including 
+ * without limitation the rights to use, copy, modify, merge, publish, 
+ * distribute, sublicense, and/or sell copies of the Software, and to 
+ * permit persons to whom the Software is furnished to do so, subject to 
+ * the following conditions: 
+ *
+ * The above copyright notice and this permission notice shall be included 
+ * in all copies or substantial portions of the Software. 
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS 
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF 
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. 
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY 
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, 
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE 
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. 
+ *
+ */
+
+package de.srsco.srslib.function;
+
+
+/**
+ * Assignability checks between classes that are computed once per pair of classes and cached via {@link ClassValue}.
+ */
+final class TypeChecks
+{
+    /**
+     * <h3>For a target class, a ClassValue that caches whether each class is assignable to the target.</h3>
+     */
+    private static final ClassValue<ClassValue<Boolean>> ASSIGNABLE = new ClassValue<>()
+    {
+        @Override
+        protected ClassValue<Boolean> computeValue(final Class<?> target)
+        {
+            return new ClassValue<>()
+            {
+                @Override
+                protected Boolean computeValue(final Class<?> type)
+                {
+                    return target.isAssignableFrom(type);
+                }
+            };
+        }
+    };
+
+    private TypeChecks() {}
+
+    /**
+     * <h3>Returns the cache of assignability to the target class, to be held by callers that check many objects.</h3>
+     */
+    static ClassValue<Boolean> assignableTo(final Class<?> target)
+    {
+        return ASSIGNABLE.get(target);
+    }
+
+    /**
+     * <h3>Checks if an object is an instance of the target, with a fast path for objects of exactly the target class.</h3>
+     */
+    static boolean isInstance(final Class<?> target, final ClassValue<Boolean> assignable, final Object obj)
+    {
+        final var type = obj.getClass();
+        return type == target || assignable.get(type);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Project      : srsLib
+ * File         : TypeRouter.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT) 
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the 
+ * "Software"), to deal in the Software without restriction, including 
+ * without limitation the rights to use, copy, modify, merge, publish, 
+ * distribute, sublicense, and/or sell copies of the Software, and to 
+ * permit persons to whom the Software is furnished to do so, subject to 
+ * the following conditions: 
+ *
+ * The above copyright notice and this permission notice shall be included 
+ * in all copies or substantial portions of the Software. 
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS 
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF 
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. 
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY 
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, 
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE 
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. 
+ *
+ */
+
+package de.srsco.srslib.function;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Dispatches each object to the first of a list of target classes that it is an instance of, in a single check.
+ * <p>
+ * The index of the matching target for each concrete class is computed once and cached via {@link ClassValue},
+ * so routing an object costs one lookup regardless of the number of targets. Subclasses should therefore be routed
+ * before their superclasses. Routers are immutable, and should be kept and reused so that the cache is as well.
+ * <p>
+ * eg: Given a Stream&lt;Entity&gt;: {@code stream.forEach(TypeRouter.<Entity>create().route(Player.class, players::add).route(Mob.class, mobs::add))}
+ * would sort all entities into their lists in one pass instead of one pass per {@link SLFunctions#subclassFilter}.
+ *
+ * @param <T> The common supertype of routed objects.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class TypeRouter<T> implements Consumer<T>
+{
+    private final Class<?>[] targets;
+    private final List<Class<?>> targetList;
+    private final Consumer<Object>[] routes;
+    @Nullable
+    private final Consumer<? super T> fallback;
+    private final ClassValue<Integer> buckets;
+
+    private TypeRouter(final Class<?>[] targets, final Consumer<Object>[] routes, @Nullable final Consumer<? super T> fallback)
+    {
+        this.targets    = targets;
+        this.targetList = List.of(targets);
+        this.routes     = routes;
+        this.fallback   = fallback;
+        this.buckets    = new ClassValue<>()
+        {
+            @Override
+            protected Integer computeValue(final Class<?> type)
+            {
+                for (int i = 0; i < targets.length; i++) {
+                    if (targets[i].isAssignableFrom(type)) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+        };
+    }
+
+    /**
+     * <h3>Creates a router with no routes.</h3>
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeRouter<T> create()
+    {
+        return new TypeRouter<>(new Class<?>[0], (Consumer<Object>[]) new Consumer<?>[0], null);
+    }
+
+    /**
+     * <h3>Creates a router that only indexes objects by target class, for use with {@link #bucketOf}.</h3>
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeRouter<T> indexing(@NotNull final Class<?>... targets)
+    {
+        final var copy = targets.clone();
+        for (final var target : copy) {
+            Objects.requireNonNull(target, "Target classes can not be null.");
+        }
+        final var routes = (Consumer<Object>[]) new Consumer<?>[copy.length];
+        Arrays.fill(routes, (Consumer<Object>) obj -> { });
+        return new TypeRouter<>(copy, routes, null);
+    }
+
+    /**
+     * <h3>Returns a new router with an additional route for objects of the target class that do not match an earlier route.</h3>
+     */
+    @SuppressWarnings("unchecked")
+    public <B extends T> TypeRouter<T> route(@NotNull final Class<B> target, @NotNull final Consumer<? super B> consumer)
+    {
+        Objects.requireNonNull(target, "A target class is required for a route.");
+        Objects.requireNonNull(consumer, "A consumer is required for a route.");
+        final var newTargets = Arrays.copyOf(targets, targets.length + 1);
+        final var newRoutes = Arrays.copyOf(routes, routes.length + 1);
+        newTargets[targets.length] = target;
+        newRoutes[routes.length] = obj -> consumer.accept((B) obj);
+        return new TypeRouter<>(newTargets, newRoutes, fallback);
+    }
+
+    /**
+     * <h3>Returns a new router that passes objects that match no route to the consumer.</h3>
+     */
+    public TypeRouter<T> otherwise(@NotNull final Consumer<? super T> consumer)
+    {
+        return new TypeRouter<>(targets, routes, Objects.requireNonNull(consumer, "A consumer is required for unmatched objects."));
+    }
+
+    /**
+     * <h3>Returns the index of the first target class that the object is an instance of, or -1 if there is none.</h3>
+     */
+    public int bucketOf(@NotNull final T obj)
+    {
+        return buckets.get(obj.getClass());
+    }
+
+    /**
+     * <h3>Returns the index of the target class itself, or -1 if it is not a target of this router.</h3>
+     */
+    public int indexOf(@NotNull final Class<?> target)
+    {
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public List<Class<?>> targets()
+    {
+        return targetList;
+    }
+
+    @Override
+    public void accept(final T obj)
+    {
+        final int bucket = bucketOf(obj);
+        if (bucket >= 0) {
+            routes[bucket].accept(obj);
+        } else if (fallback != null) {
+            fallback.accept(obj);
+        }
+    }
+}
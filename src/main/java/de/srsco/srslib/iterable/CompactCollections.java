@@ -0,0 +1,306 @@
+/*
+ * Project      : srsLib
+ * File         : CompactCollections.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.iterable;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Immutable Lists and Sets backed by exact-size arrays, intended for long-lived lookup collections.
+ * Unlike {@link java.util.Collections#unmodifiableCollection}, there is no wrapper over a mutable Collection
+ * and no slack capacity or per-element node objects. Both allow null elements.
+ *
+ * @see SLCollections#mergeToImmutable(java.util.function.Supplier, Collection[])
+ */
+final class CompactCollections
+{
+    private CompactCollections() {}
+
+    /**
+     * <h3>Creates a CompactList that takes ownership of the array.</h3>
+     */
+    static <T> CompactList<T> listOf(final Object[] elements)
+    {
+        return new CompactList<>(elements);
+    }
+
+    /**
+     * <h3>Creates a CompactSet that takes ownership of the array, dropping duplicates while preserving encounter order.</h3>
+     */
+    static <T> CompactSet<T> setOf(final Object[] elements)
+    {
+        var table = new int[tableSize(elements.length)];
+        int size = 0;
+        int hash = 0;
+        for (final var element : elements) {
+            if (insert(table, elements, element, size)) {
+                elements[size++] = element;
+                hash += Objects.hashCode(element);
+            }
+        }
+        final var exact = size == elements.length ? elements : Arrays.copyOf(elements, size);
+        if (tableSize(size) < table.length) {
+            table = new int[tableSize(size)];
+            for (int i = 0; i < size; i++) {
+                insert(table, exact, exact[i], i);
+            }
+        }
+        return new CompactSet<>(exact, table, hash);
+    }
+
+    /**
+     * <h3>Creates an array with the contents of the inputs, which is exact-sized when all inputs are Collections.</h3>
+     */
+    static Object[] toArray(final Iterable<?>[] inputs)
+    {
+        long size = 0;
+        for (final var input : inputs) {
+            if (!(input instanceof Collection<?> collection)) {
+                return SLCollections.mergeSized(ArrayList::new, inputs).toArray();
+            }
+            size += collection.size();
+        }
+        final var array = new Object[Math.toIntExact(size)];
+        int offset = 0;
+        for (final var input : inputs) {
+            final var contents = ((Collection<?>) input).toArray();
+            System.arraycopy(contents, 0, array, offset, contents.length);
+            offset += contents.length;
+        }
+        return offset == array.length ? array : Arrays.copyOf(array, offset);
+    }
+
+    /**
+     * <h3>The open-addressing table size for a number of elements, a power of 2 kept at most half full.</h3>
+     */
+    private static int tableSize(final int size)
+    {
+        return Integer.highestOneBit(Math.max(2, size * 2) - 1) << 1;
+    }
+
+    private static int spread(final Object obj)
+    {
+        final int hash = Objects.hashCode(obj);
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * <h3>Inserts the index of an element into the table with linear probing if an equal element is not present.</h3>
+     * Table slots hold the element index + 1 so that 0 marks an empty slot.
+     */
+    private static boolean insert(final int[] table, final Object[] elements, final Object element, final int index)
+    {
+        final int mask = table.length - 1;
+        for (int slot = spread(element) & mask; ; slot = slot + 1 & mask) {
+            final int entry = table[slot];
+            if (entry == 0) {
+                table[slot] = index + 1;
+                return true;
+            }
+            if (Objects.equals(elements[entry - 1], element)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * <h3>An immutable List over an exact-size array with a cached hash code.</h3>
+     * The hash code is calculated on creation so that it is safely published with the final fields.
+     */
+    static final class CompactList<T> extends AbstractList<T> implements RandomAccess
+    {
+        private final Object[] elements;
+        private final int hash;
+
+        private CompactList(final Object[] elements)
+        {
+            this.elements = elements;
+            this.hash     = Arrays.hashCode(elements);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(final int index)
+        {
+            Objects.checkIndex(index, elements.length);
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+
+        @Override
+        public int indexOf(final Object obj)
+        {
+            for (int i = 0; i < elements.length; i++) {
+                if (Objects.equals(obj, elements[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object @NotNull [] toArray()
+        {
+            return elements.clone();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            for (final var element : elements) {
+                action.accept((T) element);
+            }
+        }
+
+        @Override
+        public Spliterator<T> spliterator()
+        {
+            return Spliterators.spliterator(elements, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    /**
+     * <h3>An immutable Set over an exact-size array in encounter order, indexed by an open-addressing table of ints.</h3>
+     */
+    static final class CompactSet<T> extends AbstractSet<T>
+    {
+        private final Object[] elements;
+        private final int[] table;
+        private final int hash;
+
+        private CompactSet(final Object[] elements, final int[] table, final int hash)
+        {
+            this.elements = elements;
+            this.table    = table;
+            this.hash     = hash;
+        }
+
+        @Override
+        public boolean contains(final Object obj)
+        {
+            final int mask = table.length - 1;
+            for (int slot = spread(obj) & mask; ; slot = slot + 1 & mask) {
+                final int entry = table[slot];
+                if (entry == 0) {
+                    return false;
+                }
+                if (Objects.equals(elements[entry - 1], obj)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new Iterator<>()
+            {
+                private int next;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < elements.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next()
+                {
+                    if (next >= elements.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return (T) elements[next++];
+                }
+            };
+        }
+
+        @Override
+        public Object @NotNull [] toArray()
+        {
+            return elements.clone();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            for (final var element : elements) {
+                action.accept((T) element);
+            }
+        }
+
+        @Override
+        public Spliterator<T> spliterator()
+        {
+            return Spliterators.spliterator(elements, Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Project      : srsLib
+ * File         : ConcatViews.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.iterable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Read-only views that present several inputs as a single concatenated sequence without copying any elements.
+ *
+ * @see SLCollections#concatView(List[])
+ * @see SLCollections#concatView(Collection[])
+ * @see SLCollections#concatView(Iterable[])
+ */
+final class ConcatViews
+{
+    private ConcatViews() {}
+
+    /**
+     * <h3>A List view over a fixed array of Lists.</h3>
+     * The cumulative offsets of the inputs are calculated once on creation, so the inputs must not be structurally
+     * modified while the view is in use.
+     */
+    static sealed class ListView<T> extends AbstractList<T> permits RandomAccessListView
+    {
+        private final List<? extends T>[] lists;
+        private final int[] offsets;
+
+        /**
+         * <h3>Creates a view that is only marked as {@link RandomAccess} if all the input Lists are.</h3>
+         */
+        static <T> ListView<T> of(final List<? extends T>[] lists)
+        {
+            for (final var list : lists) {
+                if (!(list instanceof RandomAccess)) {
+                    return new ListView<>(lists);
+                }
+            }
+            return new RandomAccessListView<>(lists);
+        }
+
+        private ListView(final List<? extends T>[] lists)
+        {
+            this.lists   = lists;
+            this.offsets = new int[lists.length + 1];
+            for (int i = 0; i < lists.length; i++) {
+                offsets[i + 1] = Math.addExact(offsets[i], lists[i].size());
+            }
+        }
+
+        @Override
+        public T get(final int index)
+        {
+            Objects.checkIndex(index, size());
+            final int part = partOf(index);
+            return lists[part].get(index - offsets[part]);
+        }
+
+        @Override
+        public int size()
+        {
+            return offsets[lists.length];
+        }
+
+        @NotNull
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new ChainIterator<>(lists);
+        }
+
+        @Override
+        public void forEach(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            for (final var list : lists) {
+                list.forEach(action);
+            }
+        }
+
+        @Override
+        public Spliterator<T> spliterator()
+        {
+            return ChainSpliterator.of(lists);
+        }
+
+        /**
+         * <h3>Finds the last input that starts at or before the index, which is always a non-empty input.</h3>
+         */
+        private int partOf(final int index)
+        {
+            int low = 0;
+            int high = lists.length - 1;
+            while (low < high) {
+                final int mid = (low + high + 1) >>> 1;
+                if (offsets[mid] <= index) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * <h3>A List view over a fixed array of random access Lists.</h3>
+     */
+    static final class RandomAccessListView<T> extends ListView<T> implements RandomAccess
+    {
+        private RandomAccessListView(final List<? extends T>[] lists)
+        {
+            super(lists);
+        }
+    }
+
+    /**
+     * <h3>A Collection view over a fixed array of Collections.</h3>
+     */
+    static final class CollectionView<T> extends AbstractCollection<T>
+    {
+        private final Collection<? extends T>[] collections;
+
+        CollectionView(final Collection<? extends T>[] collections)
+        {
+            this.collections = collections;
+        }
+
+        @Override
+        public int size()
+        {
+            long size = 0;
+            for (final var collection : collections) {
+                size += collection.size();
+            }
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            for (final var collection : collections) {
+                if (!collection.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean contains(final Object obj)
+        {
+            for (final var collection : collections) {
+                if (collection.contains(obj)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new ChainIterator<>(collections);
+        }
+
+        @Override
+        public void forEach(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            for (final var collection : collections) {
+                collection.forEach(action);
+            }
+        }
+
+        @Override
+        public Spliterator<T> spliterator()
+        {
+            return ChainSpliterator.of(collections);
+        }
+    }
+
+    /**
+     * <h3>An Iterable view over a fixed array of Iterables.</h3>
+     */
+    static final class IterableView<T> implements Iterable<T>
+    {
+        private final Iterable<? extends T>[] iterables;
+
+        IterableView(final Iterable<? extends T>[] iterables)
+        {
+            this.iterables = iterables;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new ChainIterator<>(iterables);
+        }
+
+        @Override
+        public void forEach(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            for (final var iterable : iterables) {
+                iterable.forEach(action);
+            }
+        }
+
+        @Override
+        public Spliterator<T> spliterator()
+        {
+            return ChainSpliterator.of(iterables);
+        }
+    }
+
+    /**
+     * <h3>An Iterator that exhausts each input in turn.</h3>
+     */
+    static final class ChainIterator<T> implements Iterator<T>
+    {
+        private final Iterable<? extends T>[] inputs;
+        private int next;
+        private Iterator<? extends T> current;
+
+        ChainIterator(final Iterable<? extends T>[] inputs)
+        {
+            this.inputs  = inputs;
+            this.current = Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while (!current.hasNext()) {
+                if (next == inputs.length) {
+                    return false;
+                }
+                current = inputs[next++].iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    /**
+     * <h3>A Spliterator that splits between whole inputs first, then delegates splitting to the last remaining input.</h3>
+     */
+    static final class ChainSpliterator<T> implements Spliterator<T>
+    {
+        private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED;
+
+        private final Spliterator<? extends T>[] parts;
+        private int from;
+        private final int to;
+
+        private ChainSpliterator(final Spliterator<? extends T>[] parts, final int from, final int to)
+        {
+            this.parts = parts;
+            this.from  = from;
+            this.to    = to;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> ChainSpliterator<T> of(final Iterable<? extends T>[] inputs)
+        {
+            final var parts = (Spliterator<? extends T>[]) new Spliterator<?>[inputs.length];
+            for (int i = 0; i < inputs.length; i++) {
+                parts[i] = inputs[i].spliterator();
+            }
+            return new ChainSpliterator<>(parts, 0, parts.length);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            for (; from < to; from++) {
+                if (parts[from].tryAdvance(action)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action)
+        {
+            Objects.requireNonNull(action);
+            for (; from < to; from++) {
+                parts[from].forEachRemaining(action);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            final int remaining = to - from;
+            if (remaining > 1) {
+                final int mid = (from + to) >>> 1;
+                final var prefix = new ChainSpliterator<T>(parts, from, mid);
+                from = mid;
+                return prefix;
+            }
+            if (remaining == 1) {
+                @SuppressWarnings("unchecked")
+                final var prefix = (Spliterator<T>) parts[from].trySplit();
+                return prefix;
+            }
+            return null;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            long size = 0;
+            for (int i = from; i < to; i++) {
+                size += parts[i].estimateSize();
+                if (size < 0) {
+                    return Long.MAX_VALUE;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            int characteristics = CHARACTERISTICS;
+            for (int i = from; i < to; i++) {
+                characteristics &= parts[i].characteristics();
+            }
+            return characteristics;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Project      : srsLib
+ * File         : ParallelMerge.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.iterable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+
+/**
+ * A merger of Collections into a presized array that is split into chunks that are copied concurrently.
+ *
+ * @see SLCollections#mergeParallel(int, Executor, Collection[])
+ * @see SLCollections#mergeParallelAsync(int, Executor, Collection[])
+ */
+final class ParallelMerge
+{
+    private ParallelMerge() {}
+
+    /**
+     * <h3>Copies the inputs into a new array, using the Executor for inputs larger than the threshold.</h3>
+     * RandomAccess Lists are split into chunks of the threshold size, other Collections are copied as a whole.
+     */
+    static <T> CompletableFuture<List<T>> merge(final int threshold, final Executor executor, final Collection<? extends T>[] inputs)
+    {
+        final var sizes = new int[inputs.length];
+        long total = 0;
+        for (int i = 0; i < inputs.length; i++) {
+            total += sizes[i] = inputs[i].size();
+        }
+        final var dest = new Object[Math.toIntExact(total)];
+        if (total < threshold) {
+            int offset = 0;
+            for (int i = 0; i < inputs.length; i++) {
+                copyAll(inputs[i], sizes[i], dest, offset);
+                offset += sizes[i];
+            }
+            return CompletableFuture.completedFuture(asList(dest));
+        }
+
+        final var tasks = new ArrayList<CompletableFuture<Void>>();
+        int offset = 0;
+        for (int i = 0; i < inputs.length; i++) {
+            final var input = inputs[i];
+            if (input instanceof List<?> list && input instanceof RandomAccess) {
+                for (int from = 0; from < sizes[i]; from += threshold) {
+                    final int start = from;
+                    final int end = Math.min(sizes[i], from + threshold);
+                    final int at = offset + from;
+                    tasks.add(CompletableFuture.runAsync(() -> copyRange(list, start, end, dest, at), executor));
+                }
+            } else if (sizes[i] > 0) {
+                final int at = offset;
+                final int size = sizes[i];
+                tasks.add(CompletableFuture.runAsync(() -> copyAll(input, size, dest, at), executor));
+            }
+            offset += sizes[i];
+        }
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new)).thenApply(ignored -> asList(dest));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> asList(final Object[] array)
+    {
+        return (List<T>) Arrays.asList(array);
+    }
+
+    private static void copyRange(final List<?> list, final int from, final int to, final Object[] dest, final int offset)
+    {
+        for (int i = from; i < to; i++) {
+            dest[offset + i - from] = list.get(i);
+        }
+    }
+
+    private static void copyAll(final Collection<?> input, final int size, final Object[] dest, final int offset)
+    {
+        final var array = input.toArray();
+        System.arraycopy(array, 0, dest, offset, Math.min(array.length, size));
+    }
+}
@@ -33,18 +33,40 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jetbrains.annotations.NotNull;
 
+import de.srsco.srslib.iterable.primitive.IntArrayList;
+import de.srsco.srslib.iterable.primitive.IntSet;
+import de.srsco.srslib.iterable.primitive.Long2ObjectMap;
+import de.srsco.srslib.iterable.primitive.LongSet;
+import de.srsco.srslib.iterable.primitive.PositionSet;
+
 
 @SuppressWarnings("unused")
 public final class SLCollections
 {
+    /**
+     * <h3>The default number of elements below which a parallel merger is performed sequentially.</h3>
+     * This is also the size of the chunks that large Lists are split into.
+     */
+    public static final int PARALLEL_MERGE_THRESHOLD = 1 << 14;
+
     private SLCollections() {}
 
     /**
@@ -74,7 +96,22 @@ public final class SLCollections
     @SafeVarargs
     public static <T> ArrayList<T> toArrayList(@NotNull final Iterable<? extends T>... inputs)
     {
-        return merge(ArrayList::new, inputs);
+        return mergeSized(ArrayList::new, inputs);
+    }
+
+    /**
+     * <h3>Merges the input Iterables into a new HashSet sized for the combined number of elements.</h3>
+     *
+     * @param inputs    Inputs to be merged into a new Set.
+     * @param <T>       The type of collection elements
+     * @return          A new HashSet with the contents of the inputs merged into it.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> HashSet<T> toHashSet(@NotNull final Iterable<? extends T>... inputs)
+    {
+        return mergeSized(HashSet::newHashSet, inputs);
     }
 
     /**
@@ -95,10 +132,247 @@ public final class SLCollections
         Objects.requireNonNull(collector, "A Collection must be provided for the merger.");
         Objects.requireNonNull(inputs, "Input Iterables can not be null.");
         final var output = collector.get();
-        Arrays.stream(inputs).forEach(input -> input.forEach(output::add));
+        if (output instanceof ArrayList<?> list) {
+            list.ensureCapacity(list.size() + sizeOf(inputs));
+        }
+        return addAll(output, inputs);
+    }
+
+    /**
+     * <h3>Merges the input Iterables into a Collection created for the combined number of elements.</h3>
+     * The known sizes of all input Collections are summed and passed to the collector so that the output does not
+     * need to grow during the merger, eg: {@code mergeSized(ArrayList::new, ...)} or {@code mergeSized(HashSet::newHashSet, ...)}.
+     * Inputs that are not Collections do not contribute to the size, but are still merged.
+     *
+     * @param collector A Function that creates a Collection for an expected number of elements.
+     * @param inputs    Input Iterables to be merged into the created Collection.
+     * @param <T>       The type of collection elements
+     * @param <C>       The output collection type
+     * @return          The created Collection with the contents of the inputs merged into it.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T, C extends Collection<T>> C mergeSized(@NotNull final IntFunction<? extends C> collector,
+                                                            @NotNull final Iterable<? extends T>... inputs)
+    {
+        Objects.requireNonNull(collector, "A Collection must be provided for the merger.");
+        Objects.requireNonNull(inputs, "Input Iterables can not be null.");
+        return addAll(collector.apply(sizeOf(inputs)), inputs);
+    }
+
+    /**
+     * <h3>Merges the input IntArrayLists into a new IntArrayList sized for the combined number of elements.</h3>
+     *
+     * @param inputs Inputs to be merged into a new IntArrayList.
+     * @return       A new IntArrayList with the contents of the inputs merged into it.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static IntArrayList merge(@NotNull final IntArrayList... inputs)
+    {
+        Objects.requireNonNull(inputs, "Input lists can not be null.");
+        long size = 0;
+        for (final var input : inputs) {
+            size += input.size();
+        }
+        final var output = new IntArrayList(Math.toIntExact(size));
+        for (final var input : inputs) {
+            output.addAll(input);
+        }
+        return output;
+    }
+
+    /**
+     * <h3>Merges the input IntSets into a new IntSet.</h3>
+     *
+     * @param inputs Inputs to be merged into a new IntSet.
+     * @return       A new IntSet with the contents of the inputs merged into it.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static IntSet merge(@NotNull final IntSet... inputs)
+    {
+        Objects.requireNonNull(inputs, "Input sets can not be null.");
+        final var output = new IntSet(Arrays.stream(inputs).mapToInt(IntSet::size).max().orElse(0));
+        for (final var input : inputs) {
+            output.addAll(input);
+        }
+        return output;
+    }
+
+    /**
+     * <h3>Merges the input LongSets into a new LongSet.</h3>
+     *
+     * @param inputs Inputs to be merged into a new LongSet.
+     * @return       A new LongSet with the contents of the inputs merged into it.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static LongSet merge(@NotNull final LongSet... inputs)
+    {
+        Objects.requireNonNull(inputs, "Input sets can not be null.");
+        final var output = new LongSet(Arrays.stream(inputs).mapToInt(LongSet::size).max().orElse(0));
+        for (final var input : inputs) {
+            output.addAll(input);
+        }
+        return output;
+    }
+
+    /**
+     * <h3>Merges the input Long2ObjectMaps into a new Long2ObjectMap.</h3>
+     * Where a key is present in several inputs, the value of the last of those inputs is kept.
+     *
+     * @param inputs Inputs to be merged into a new Long2ObjectMap.
+     * @param <V>    The type of values
+     * @return       A new Long2ObjectMap with the contents of the inputs merged into it.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <V> Long2ObjectMap<V> merge(@NotNull final Long2ObjectMap<? extends V>... inputs)
+    {
+        Objects.requireNonNull(inputs, "Input maps can not be null.");
+        final var output = new Long2ObjectMap<V>(Arrays.stream(inputs).mapToInt(Long2ObjectMap::size).max().orElse(0));
+        for (final var input : inputs) {
+            output.putAll(input);
+        }
+        return output;
+    }
+
+    /**
+     * <h3>Merges the input PositionSets into a new PositionSet with a bulk union of their sections.</h3>
+     * The new PositionSet is stored off-heap if the first input is.
+     *
+     * @param inputs Inputs to be merged into a new PositionSet.
+     * @return       A new PositionSet with the contents of the inputs merged into it.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static PositionSet merge(@NotNull final PositionSet... inputs)
+    {
+        Objects.requireNonNull(inputs, "Input sets can not be null.");
+        final var output = inputs.length > 0 && inputs[0].isOffHeap() ? PositionSet.offHeap() : new PositionSet();
+        for (final var input : inputs) {
+            output.union(input);
+        }
+        return output;
+    }
+
+    /**
+     * <h3>Merges the input Collections into a new List using the common {@link ForkJoinPool}.</h3>
+     *
+     * @see #mergeParallel(int, Executor, Collection[])
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> List<T> mergeParallel(@NotNull final Collection<? extends T>... inputs)
+    {
+        return mergeParallel(PARALLEL_MERGE_THRESHOLD, ForkJoinPool.commonPool(), inputs);
+    }
+
+    /**
+     * <h3>Merges the input Collections into a new List, copying large inputs in parallel.</h3>
+     * The contents of the inputs are copied directly into a presized array that backs the returned List.
+     * RandomAccess Lists are split into chunks of the threshold size and other Collections are copied as a whole,
+     * with each chunk copied on the Executor. If the combined size of the inputs is below the threshold,
+     * the merger is performed sequentially on the calling thread.
+     * The inputs must not be modified during the merger.
+     *
+     * @param threshold The combined size at or above which the merger is performed in parallel, and the chunk size.
+     * @param executor  The Executor used to copy the chunks.
+     * @param inputs    Input Collections to be merged.
+     * @param <T>       The type of collection elements
+     * @return          A fixed-size List backed by an array with the contents of the inputs merged into it.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> List<T> mergeParallel(final int threshold,
+                                            @NotNull final Executor executor,
+                                            @NotNull final Collection<? extends T>... inputs)
+    {
+        return mergeParallelAsync(threshold, executor, inputs).join();
+    }
+
+    /**
+     * <h3>Merges the input Collections into a new List without blocking the calling thread on a parallel merger.</h3>
+     *
+     * @see #mergeParallel(int, Executor, Collection[])
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mergeParallelAsync(final int threshold,
+                                                                    @NotNull final Executor executor,
+                                                                    @NotNull final Collection<? extends T>... inputs)
+    {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The parallel merge threshold must be positive: " + threshold);
+        }
+        Objects.requireNonNull(executor, "An Executor must be provided for the merger.");
+        return ParallelMerge.merge(threshold, executor, checkInputs(inputs));
+    }
+
+    /**
+     * <h3>Merges the already sorted input Iterables into a new sorted ArrayList.</h3>
+     * This is a k-way merger over the heads of the inputs that runs in O(n log k) rather than the O(n log n)
+     * of merging and then sorting. The merger is stable, with equal elements ordered by the order of their inputs.
+     * The result is unspecified if an input is not sorted by the comparator.
+     *
+     * @param comparator The Comparator that the inputs are sorted by.
+     * @param inputs     Sorted input Iterables to be merged.
+     * @param <T>        The type of collection elements
+     * @return           A new ArrayList with the contents of the inputs merged into it in sorted order.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> ArrayList<T> mergeSorted(@NotNull final Comparator<? super T> comparator,
+                                               @NotNull final Iterable<? extends T>... inputs)
+    {
+        final var view = mergeSortedView(comparator, inputs);
+        final var output = new ArrayList<T>(sizeOf(inputs));
+        view.forEach(output::add);
         return output;
     }
 
+    /**
+     * <h3>Creates a lazy Iterable that merges the already sorted input Iterables as it is iterated.</h3>
+     * Nothing is materialized; each iteration performs a new k-way merger over the current contents of the inputs.
+     *
+     * @param comparator The Comparator that the inputs are sorted by.
+     * @param inputs     Sorted input Iterables to be merged.
+     * @param <T>        The type of elements
+     * @return           An Iterable of the merged inputs in sorted order.
+     *
+     * @see #mergeSorted(Comparator, Iterable[])
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> Iterable<T> mergeSortedView(@NotNull final Comparator<? super T> comparator,
+                                                  @NotNull final Iterable<? extends T>... inputs)
+    {
+        Objects.requireNonNull(comparator, "A Comparator must be provided for the merger.");
+        return new SortedMerge.View<>(comparator, checkInputs(inputs));
+    }
+
+    /**
+     * <h3>Creates a lazy sequential Stream that merges the already sorted input Iterables.</h3>
+     *
+     * @see #mergeSortedView(Comparator, Iterable[])
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> Stream<T> mergeSortedStream(@NotNull final Comparator<? super T> comparator,
+                                                  @NotNull final Iterable<? extends T>... inputs)
+    {
+        return StreamSupport.stream(mergeSortedView(comparator, inputs).spliterator(), false);
+    }
+
     /**
      * <h3>A merging function that returns a Collection that is a merger of two input Collections.</h3>
      * Useful for when the preservation of the input Collections is required, or when the input Collections are unmodifiable.
@@ -150,6 +424,7 @@ public final class SLCollections
      * @param <C>       The input/output collection type
      * @return          The supplied Collection with the contents of the inputs merged into it and made unmodifiable.
      *
+     * @see #mergeToImmutable(Supplier, Collection[])
      * @since 0.1.0, MC 1.19.1, 2022.08.08
      */
     @SafeVarargs
@@ -159,6 +434,112 @@ public final class SLCollections
         return Collections.unmodifiableCollection(merge(collector, inputs));
     }
 
+    /**
+     * <h3>Creates a read-only List view of the concatenation of the input Lists without copying any elements.</h3>
+     * The view supports random access by way of the cumulative offsets of the inputs, which are calculated on creation,
+     * and a Spliterator that splits between the inputs for parallel Streams. The inputs must not be structurally
+     * modified while the view is in use, and random access is only as fast as the inputs support.
+     *
+     * @param inputs Input Lists to be viewed in order.
+     * @param <T>    The type of list elements
+     * @return       An unmodifiable List view of the inputs.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> List<T> concatView(@NotNull final List<? extends T>... inputs)
+    {
+        return ConcatViews.ListView.of(checkInputs(inputs));
+    }
+
+    /**
+     * <h3>Creates a read-only Collection view of the concatenation of the input Collections without copying any elements.</h3>
+     * Changes to the inputs are reflected in the view.
+     *
+     * @param inputs Input Collections to be viewed in order.
+     * @param <T>    The type of collection elements
+     * @return       An unmodifiable Collection view of the inputs.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> Collection<T> concatView(@NotNull final Collection<? extends T>... inputs)
+    {
+        return new ConcatViews.CollectionView<>(checkInputs(inputs));
+    }
+
+    /**
+     * <h3>Creates a read-only Iterable view of the concatenation of the input Iterables without copying any elements.</h3>
+     *
+     * @param inputs Input Iterables to be viewed in order.
+     * @param <T>    The type of elements
+     * @return       An Iterable view of the inputs.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> Iterable<T> concatView(@NotNull final Iterable<? extends T>... inputs)
+    {
+        return new ConcatViews.IterableView<>(checkInputs(inputs));
+    }
+
+    /**
+     * <h3>Returns a compact immutable copy of the merger of the input Collections into the supplied Collection.</h3>
+     * If the supplied Collection is a Set, the result is a Set, otherwise it is a List, either of which is backed by
+     * an exact-size array in the iteration order of the supplied Collection. Sets are indexed by an open-addressing
+     * table and cache their hash code. This is preferred over {@link #mergeToUnmodifiable} for long-lived Collections
+     * as the merged Collection is discarded rather than retained with its slack capacity.
+     *
+     * @param collector A Supplier of a Collection that accepts the merger of the input Collections.
+     * @param inputs    Input Collections to be merged into the supplied Collection.
+     * @param <T>       The type of collection elements
+     * @param <C>       The input/output collection type
+     * @return          An immutable Collection with the contents of the merger.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T, C extends Collection<T>> Collection<T> mergeToImmutable(@NotNull final Supplier<? extends C> collector,
+                                                                              @NotNull final C... inputs)
+    {
+        final var merged = merge(collector, inputs);
+        final var elements = merged.toArray();
+        return merged instanceof Set<?> ? CompactCollections.setOf(elements) : CompactCollections.listOf(elements);
+    }
+
+    /**
+     * <h3>Merges the input Iterables into a compact immutable List backed by an exact-size array.</h3>
+     *
+     * @param inputs Inputs to be merged into a new List.
+     * @param <T>    The type of collection elements
+     * @return       An immutable List with the contents of the inputs merged into it.
+     *
+     * @see #mergeToImmutable(Supplier, Collection[])
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> List<T> mergeToImmutableList(@NotNull final Iterable<? extends T>... inputs)
+    {
+        return CompactCollections.listOf(CompactCollections.toArray(checkInputs(inputs)));
+    }
+
+    /**
+     * <h3>Merges the input Iterables into a compact immutable Set backed by an exact-size array.</h3>
+     * Duplicate elements are dropped, and the first occurrence of each element determines the iteration order.
+     *
+     * @param inputs Inputs to be merged into a new Set.
+     * @param <T>    The type of collection elements
+     * @return       An immutable Set with the contents of the inputs merged into it.
+     *
+     * @see #mergeToImmutable(Supplier, Collection[])
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    @SafeVarargs
+    public static <T> Set<T> mergeToImmutableSet(@NotNull final Iterable<? extends T>... inputs)
+    {
+        return CompactCollections.setOf(CompactCollections.toArray(checkInputs(inputs)));
+    }
+
     /**
      * <h3>Creates a BinaryOperator for merging the contents of the second input Collection into the first.</h3>
      *
@@ -196,4 +577,47 @@ public final class SLCollections
             return output;
         };
     }
+
+    /**
+     * <h3>Adds the contents of the inputs to the output, using a bulk copy for inputs that are Collections.</h3>
+     */
+    @SafeVarargs
+    private static <T, C extends Collection<T>> C addAll(final C output, final Iterable<? extends T>... inputs)
+    {
+        for (final var input : inputs) {
+            if (input instanceof Collection<? extends T> collection) {
+                output.addAll(collection);
+            } else {
+                input.forEach(output::add);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * <h3>Sums the known sizes of the inputs, clamped to the maximum capacity of an array.</h3>
+     */
+    private static int sizeOf(final Iterable<?>[] inputs)
+    {
+        long size = 0;
+        for (final var input : inputs) {
+            if (input instanceof Collection<?> collection) {
+                size += collection.size();
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * <h3>Null-checks a varargs array of inputs and copies it to guard against later changes by the caller.</h3>
+     */
+    private static <I> I[] checkInputs(final I[] inputs)
+    {
+        Objects.requireNonNull(inputs, "Input Iterables can not be null.");
+        final var copy = inputs.clone();
+        for (final var input : copy) {
+            Objects.requireNonNull(input, "Input Iterables can not be null.");
+        }
+        return copy;
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Project      : srsLib
+ * File         : SortedMerge.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.iterable;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * A k-way merger of already sorted inputs using a binary min-heap of the heads of each input.
+ *
+ * @see SLCollections#mergeSorted(Comparator, Iterable[])
+ * @see SLCollections#mergeSortedView(Comparator, Iterable[])
+ */
+final class SortedMerge
+{
+    private SortedMerge() {}
+
+    /**
+     * <h3>An Iterable that merges the sorted inputs each time it is iterated.</h3>
+     */
+    record View<T>(Comparator<? super T> comparator, Iterable<? extends T>[] inputs) implements Iterable<T>
+    {
+        @NotNull
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new MergingIterator<>(comparator, inputs);
+        }
+    }
+
+    /**
+     * <h3>An Iterator that produces the smallest head of its inputs in O(log k) per element.</h3>
+     * Equal elements are produced in the order of their inputs, making the merger stable.
+     */
+    static final class MergingIterator<T> implements Iterator<T>
+    {
+        private final Comparator<? super T> comparator;
+        private final Cursor<T>[] heap;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        MergingIterator(final Comparator<? super T> comparator, final Iterable<? extends T>[] inputs)
+        {
+            this.comparator = comparator;
+            this.heap = (Cursor<T>[]) new Cursor<?>[inputs.length];
+            for (int i = 0; i < inputs.length; i++) {
+                final var cursor = new Cursor<T>(inputs[i].iterator(), i);
+                if (cursor.advance()) {
+                    heap[size++] = cursor;
+                }
+            }
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return size > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            final var top = heap[0];
+            final var next = top.head;
+            if (!top.advance()) {
+                heap[0] = heap[--size];
+                heap[size] = null;
+            }
+            if (size > 1) {
+                siftDown(0);
+            }
+            return next;
+        }
+
+        private void siftDown(int index)
+        {
+            final var cursor = heap[index];
+            final int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!less(heap[child], cursor)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = cursor;
+        }
+
+        private boolean less(final Cursor<T> a, final Cursor<T> b)
+        {
+            final int cmp = comparator.compare(a.head, b.head);
+            return cmp < 0 || cmp == 0 && a.order < b.order;
+        }
+    }
+
+    /**
+     * <h3>The current head of an input and its position amongst the inputs.</h3>
+     */
+    private static final class Cursor<T>
+    {
+        private final Iterator<? extends T> iterator;
+        private final int order;
+        private T head;
+
+        private Cursor(final Iterator<? extends T> iterator, final int order)
+        {
+            this.iterator = iterator;
+            this.order    = order;
+        }
+
+        private boolean advance()
+        {
+            if (iterator.hasNext()) {
+                head = iterator.next();
+                return true;
+            }
+            head = null;
+            return false;
+        }
+    }
+}
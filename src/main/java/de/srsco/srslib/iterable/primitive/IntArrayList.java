@@ -0,0 +1,253 @@
+/*
+ * Project      : srsLib
+ * File         : IntArrayList.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.iterable.primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+
+/**
+ * A growable list of unboxed ints backed by an int array.
+ * <p>
+ * For use with an {@link IntStream}: {@code intStream.collect(IntArrayList::new, IntArrayList::add, IntArrayList::addAll)}
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class IntArrayList
+{
+    private static final int[] EMPTY = new int[0];
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList()
+    {
+        this.elements = EMPTY;
+    }
+
+    public IntArrayList(final int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can not be negative: " + capacity);
+        }
+        this.elements = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    public IntArrayList(final IntArrayList other)
+    {
+        Objects.requireNonNull(other, "IntArrayList required for copy");
+        this.elements = Arrays.copyOf(other.elements, other.size);
+        this.size     = other.size;
+    }
+
+    public static IntArrayList of(final int... values)
+    {
+        final var list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public int getInt(final int index)
+    {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public int set(final int index, final int value)
+    {
+        Objects.checkIndex(index, size);
+        final int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    public IntArrayList add(final int value)
+    {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        return this;
+    }
+
+    public IntArrayList addAll(final int... values)
+    {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+        return this;
+    }
+
+    public IntArrayList addAll(final IntArrayList other)
+    {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    public int removeAt(final int index)
+    {
+        Objects.checkIndex(index, size);
+        final int old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, --size - index);
+        return old;
+    }
+
+    public int indexOf(final int value)
+    {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(final int value)
+    {
+        return indexOf(value) >= 0;
+    }
+
+    public void clear()
+    {
+        size = 0;
+    }
+
+    public void ensureCapacity(final int capacity)
+    {
+        if (capacity > elements.length) {
+            grow(capacity);
+        }
+    }
+
+    public void trimToSize()
+    {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    public void sort()
+    {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public int[] toArray()
+    {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public void forEach(final IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator()
+    {
+        return new PrimitiveIterator.OfInt()
+        {
+            private int next;
+
+            @Override
+            public boolean hasNext()
+            {
+                return next < size;
+            }
+
+            @Override
+            public int nextInt()
+            {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[next++];
+            }
+        };
+    }
+
+    public IntStream stream()
+    {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    private void grow(final int minCapacity)
+    {
+        final int capacity = elements.length == 0 ? Math.max(DEFAULT_CAPACITY, minCapacity)
+                                                  : Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+
+    /* Object @Overrides */
+
+    @Override
+    public boolean equals(final Object obj)
+    {
+        return this == obj
+            || obj instanceof IntArrayList other
+            && Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + elements[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Project      : srsLib
+ * File         : Long2ObjectMap.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.iterable.primitive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * A map of unboxed long keys to object values using open addressing with linear probing in parallel arrays.
+ * Null values are not permitted so that {@link #get} can signal absence. Iteration order is unspecified.
+ *
+ * @param <V> The type of values.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class Long2ObjectMap<V>
+{
+    private long[] keys;
+    private Object[] values;
+    private V zeroValue;
+    private int size;
+    private int maxFill;
+
+    public Long2ObjectMap()
+    {
+        this(0);
+    }
+
+    public Long2ObjectMap(final int expected)
+    {
+        if (expected < 0) {
+            throw new IllegalArgumentException("Expected size can not be negative: " + expected);
+        }
+        allocate(PrimitiveHash.capacityFor(expected));
+    }
+
+    public Long2ObjectMap(final Long2ObjectMap<? extends V> other)
+    {
+        Objects.requireNonNull(other, "Long2ObjectMap required for copy");
+        this.keys      = other.keys.clone();
+        this.values    = other.values.clone();
+        this.zeroValue = other.zeroValue;
+        this.size      = other.size;
+        this.maxFill   = other.maxFill;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public boolean containsKey(final long key)
+    {
+        return get(key) != null;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(final long key)
+    {
+        if (key == 0) {
+            return zeroValue;
+        }
+        final int mask = keys.length - 1;
+        for (int slot = PrimitiveHash.mix(key) & mask; ; slot = slot + 1 & mask) {
+            final long current = keys[slot];
+            if (current == 0) {
+                return null;
+            }
+            if (current == key) {
+                return (V) values[slot];
+            }
+        }
+    }
+
+    public V getOrDefault(final long key, final V fallback)
+    {
+        final var value = get(key);
+        return value == null ? fallback : value;
+    }
+
+    /**
+     * <h3>Associates a value with a key.</h3>
+     *
+     * @return The previous value for the key, or null if there was none.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(final long key, final V value)
+    {
+        Objects.requireNonNull(value, "Long2ObjectMap does not permit null values");
+        if (key == 0) {
+            final var old = zeroValue;
+            zeroValue = value;
+            if (old == null) {
+                size++;
+            }
+            return old;
+        }
+        final int mask = keys.length - 1;
+        int slot = PrimitiveHash.mix(key) & mask;
+        for (long current; (current = keys[slot]) != 0; slot = slot + 1 & mask) {
+            if (current == key) {
+                final var old = (V) values[slot];
+                values[slot] = value;
+                return old;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= maxFill) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    public Long2ObjectMap<V> putAll(final Long2ObjectMap<? extends V> other)
+    {
+        ensureCapacity(size + other.size);
+        other.forEach(this::put);
+        return this;
+    }
+
+    public V computeIfAbsent(final long key, final LongFunction<? extends V> mapper)
+    {
+        final var existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final V value = mapper.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * <h3>Removes the association for a key.</h3>
+     *
+     * @return The removed value, or null if there was none.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(final long key)
+    {
+        if (key == 0) {
+            final var old = zeroValue;
+            if (old != null) {
+                zeroValue = null;
+                size--;
+            }
+            return old;
+        }
+        final int mask = keys.length - 1;
+        for (int slot = PrimitiveHash.mix(key) & mask; ; slot = slot + 1 & mask) {
+            final long current = keys[slot];
+            if (current == 0) {
+                return null;
+            }
+            if (current == key) {
+                final var old = (V) values[slot];
+                shiftKeys(slot);
+                size--;
+                return old;
+            }
+        }
+    }
+
+    public void clear()
+    {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        size = 0;
+    }
+
+    public void ensureCapacity(final int expected)
+    {
+        final int capacity = PrimitiveHash.capacityFor(expected);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(final EntryConsumer<? super V> action)
+    {
+        Objects.requireNonNull(action);
+        if (zeroValue != null) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    public LongSet keySet()
+    {
+        final var set = new LongSet(size);
+        forEach((key, value) -> set.add(key));
+        return set;
+    }
+
+    public Collection<V> values()
+    {
+        final var list = new ArrayList<V>(size);
+        forEach((key, value) -> list.add(value));
+        return list;
+    }
+
+    private void allocate(final int capacity)
+    {
+        this.keys    = new long[capacity];
+        this.values  = new Object[capacity];
+        this.maxFill = PrimitiveHash.maxFill(capacity);
+    }
+
+    private void rehash(final int capacity)
+    {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long key = oldKeys[i];
+            if (key != 0) {
+                int slot = PrimitiveHash.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = slot + 1 & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * <h3>Closes the gap left by a removed entry by shifting back any following entries of the same probe run.</h3>
+     */
+    private void shiftKeys(int slot)
+    {
+        final int mask = keys.length - 1;
+        for (;;) {
+            final int last = slot;
+            long current;
+            for (;;) {
+                slot = slot + 1 & mask;
+                if ((current = keys[slot]) == 0) {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+                final int home = PrimitiveHash.mix(current) & mask;
+                if (last <= slot ? last >= home || home > slot : last >= home && home > slot) {
+                    break;
+                }
+            }
+            keys[last] = current;
+            values[last] = values[slot];
+        }
+    }
+
+
+    /* Object @Overrides */
+
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Long2ObjectMap<?> other) || other.size != size || !Objects.equals(zeroValue, other.zeroValue)) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0 && !values[i].equals(other.get(keys[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hash = zeroValue == null ? 0 : zeroValue.hashCode();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += Long.hashCode(keys[i]) ^ values[i].hashCode();
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        final var joiner = new StringBuilder("{");
+        forEach((key, value) -> joiner.append(joiner.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return joiner.append('}').toString();
+    }
+
+    /**
+     * A consumer of an unboxed long key and its value.
+     *
+     * @param <V> The type of values.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V>
+    {
+        void accept(long key, V value);
+    }
+}
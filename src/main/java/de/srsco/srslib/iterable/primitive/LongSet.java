@@ -0,0 +1,335 @@
+/*
+ * Project      : srsLib
+ * File         : LongSet.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.iterable.primitive;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * A set of unboxed longs using open addressing with linear probing in a single long array.
+ * Iteration order is unspecified.
+ * <p>
+ * For use with an {@link LongStream}: {@code longStream.collect(LongSet::new, LongSet::add, LongSet::addAll)}
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class LongSet
+{
+    private long[] keys;
+    private boolean containsZero;
+    private int size;
+    private int maxFill;
+
+    public LongSet()
+    {
+        this(0);
+    }
+
+    public LongSet(final int expected)
+    {
+        if (expected < 0) {
+            throw new IllegalArgumentException("Expected size can not be negative: " + expected);
+        }
+        allocate(PrimitiveHash.capacityFor(expected));
+    }
+
+    public LongSet(final LongSet other)
+    {
+        Objects.requireNonNull(other, "LongSet required for copy");
+        this.keys         = other.keys.clone();
+        this.containsZero = other.containsZero;
+        this.size         = other.size;
+        this.maxFill      = other.maxFill;
+    }
+
+    public static LongSet of(final long... values)
+    {
+        final var set = new LongSet(values.length);
+        for (final long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public boolean contains(final long key)
+    {
+        if (key == 0) {
+            return containsZero;
+        }
+        final int mask = keys.length - 1;
+        for (int slot = PrimitiveHash.mix(key) & mask; ; slot = slot + 1 & mask) {
+            final long current = keys[slot];
+            if (current == 0) {
+                return false;
+            }
+            if (current == key) {
+                return true;
+            }
+        }
+    }
+
+    public boolean add(final long key)
+    {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        final int mask = keys.length - 1;
+        int slot = PrimitiveHash.mix(key) & mask;
+        for (long current; (current = keys[slot]) != 0; slot = slot + 1 & mask) {
+            if (current == key) {
+                return false;
+            }
+        }
+        keys[slot] = key;
+        if (++size >= maxFill) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    public LongSet addAll(final LongSet other)
+    {
+        ensureCapacity(size + other.size);
+        other.forEach(this::add);
+        return this;
+    }
+
+    public boolean remove(final long key)
+    {
+        if (key == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        final int mask = keys.length - 1;
+        for (int slot = PrimitiveHash.mix(key) & mask; ; slot = slot + 1 & mask) {
+            final long current = keys[slot];
+            if (current == 0) {
+                return false;
+            }
+            if (current == key) {
+                shiftKeys(slot);
+                size--;
+                return true;
+            }
+        }
+    }
+
+    public void clear()
+    {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    public void ensureCapacity(final int expected)
+    {
+        final int capacity = PrimitiveHash.capacityFor(expected);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    public void forEach(final LongConsumer action)
+    {
+        Objects.requireNonNull(action);
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (final long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public long[] toArray()
+    {
+        final var array = new long[size];
+        int index = 0;
+        if (containsZero) {
+            array[index++] = 0;
+        }
+        for (final long key : keys) {
+            if (key != 0) {
+                array[index++] = key;
+            }
+        }
+        return array;
+    }
+
+    public PrimitiveIterator.OfLong iterator()
+    {
+        return new PrimitiveIterator.OfLong()
+        {
+            private int slot = -1;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext()
+            {
+                return remaining > 0;
+            }
+
+            @Override
+            public long nextLong()
+            {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                if (slot < 0) {
+                    slot = 0;
+                    if (containsZero) {
+                        return 0;
+                    }
+                }
+                while (keys[slot] == 0) {
+                    slot++;
+                }
+                return keys[slot++];
+            }
+        };
+    }
+
+    public LongStream stream()
+    {
+        return StreamSupport.longStream(Spliterators.spliterator(iterator(), size, Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    private void allocate(final int capacity)
+    {
+        this.keys    = new long[capacity];
+        this.maxFill = PrimitiveHash.maxFill(capacity);
+    }
+
+    private void rehash(final int capacity)
+    {
+        final var old = keys;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (final long key : old) {
+            if (key != 0) {
+                int slot = PrimitiveHash.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = slot + 1 & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    /**
+     * <h3>Closes the gap left by a removed key by shifting back any following keys of the same probe run.</h3>
+     */
+    private void shiftKeys(int slot)
+    {
+        final int mask = keys.length - 1;
+        for (;;) {
+            final int last = slot;
+            long current;
+            for (;;) {
+                slot = slot + 1 & mask;
+                if ((current = keys[slot]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                final int home = PrimitiveHash.mix(current) & mask;
+                if (last <= slot ? last >= home || home > slot : last >= home && home > slot) {
+                    break;
+                }
+            }
+            keys[last] = current;
+        }
+    }
+
+
+    /* Object @Overrides */
+
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongSet other) || other.size != size || other.containsZero != containsZero) {
+            return false;
+        }
+        for (final long key : keys) {
+            if (key != 0 && !other.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hash = 0;
+        for (final long key : keys) {
+            hash += Long.hashCode(key);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * Project      : srsLib
+ * File         : PositionSet.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.iterable.primitive;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+
+/**
+ * A set of block positions stored as a dense bitset per 16x16x16 section, so that each position costs a single bit
+ * rather than an object. Sections are created on demand and dropped when they become empty.
+ * <p>
+ * Section bitsets can optionally be stored off-heap in direct buffers allocated in slabs (see {@link #offHeap()}),
+ * which keeps large sets out of the garbage collector's way. Off-heap memory is released when the set is cleared
+ * or is no longer reachable.
+ * <p>
+ * Packed positions use the layout of {@code BlockPos#asLong}: 26 bits of X, 26 bits of Z and 12 bits of Y.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class PositionSet
+{
+    private static final int WORDS_PER_SECTION = 64;
+    private static final int SECTIONS_PER_SLAB = 256;
+
+    private final boolean offHeap;
+    private final Long2ObjectMap<Section> sections = new Long2ObjectMap<>();
+    private final List<LongBuffer> slabs = new ArrayList<>();
+    private final IntArrayList freeSlots = new IntArrayList();
+    private int nextSlot;
+    private long size;
+
+    private PositionSet(final boolean offHeap)
+    {
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * <h3>Creates a PositionSet with section bitsets on the heap.</h3>
+     */
+    public PositionSet()
+    {
+        this(false);
+    }
+
+    /**
+     * <h3>Creates a PositionSet with section bitsets in off-heap direct buffers.</h3>
+     */
+    public static PositionSet offHeap()
+    {
+        return new PositionSet(true);
+    }
+
+    public boolean isOffHeap()
+    {
+        return offHeap;
+    }
+
+    public long size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public int sectionCount()
+    {
+        return sections.size();
+    }
+
+    public boolean contains(final int x, final int y, final int z)
+    {
+        final var section = sections.get(sectionKey(x, y, z));
+        if (section == null) {
+            return false;
+        }
+        final int bit = bitIndex(x, y, z);
+        return (section.word(bit >>> 6) & 1L << bit) != 0;
+    }
+
+    public boolean contains(final long packedPos)
+    {
+        return contains(unpackX(packedPos), unpackY(packedPos), unpackZ(packedPos));
+    }
+
+    public boolean add(final int x, final int y, final int z)
+    {
+        final var section = sections.computeIfAbsent(sectionKey(x, y, z), key -> newSection());
+        final int bit = bitIndex(x, y, z);
+        final long word = section.word(bit >>> 6);
+        final long mask = 1L << bit;
+        if ((word & mask) != 0) {
+            return false;
+        }
+        section.setWord(bit >>> 6, word | mask);
+        section.count++;
+        size++;
+        return true;
+    }
+
+    public boolean add(final long packedPos)
+    {
+        return add(unpackX(packedPos), unpackY(packedPos), unpackZ(packedPos));
+    }
+
+    public boolean remove(final int x, final int y, final int z)
+    {
+        final long key = sectionKey(x, y, z);
+        final var section = sections.get(key);
+        if (section == null) {
+            return false;
+        }
+        final int bit = bitIndex(x, y, z);
+        final long word = section.word(bit >>> 6);
+        final long mask = 1L << bit;
+        if ((word & mask) == 0) {
+            return false;
+        }
+        section.setWord(bit >>> 6, word & ~mask);
+        size--;
+        if (--section.count == 0) {
+            releaseSection(key, section);
+        }
+        return true;
+    }
+
+    public boolean remove(final long packedPos)
+    {
+        return remove(unpackX(packedPos), unpackY(packedPos), unpackZ(packedPos));
+    }
+
+    public void clear()
+    {
+        sections.clear();
+        slabs.clear();
+        freeSlots.clear();
+        nextSlot = 0;
+        size = 0;
+    }
+
+    /**
+     * <h3>Adds all positions of another PositionSet to this one with word-wise ORs of their sections.</h3>
+     *
+     * @return This PositionSet.
+     */
+    public PositionSet union(final PositionSet other)
+    {
+        Objects.requireNonNull(other, "PositionSet required for union");
+        if (other == this) {
+            return this;
+        }
+        other.sections.forEach((key, theirs) -> {
+            final var ours = sections.computeIfAbsent(key, k -> newSection());
+            int count = 0;
+            for (int i = 0; i < WORDS_PER_SECTION; i++) {
+                final long word = ours.word(i) | theirs.word(i);
+                ours.setWord(i, word);
+                count += Long.bitCount(word);
+            }
+            size += count - ours.count;
+            ours.count = count;
+        });
+        return this;
+    }
+
+    /**
+     * <h3>Retains only the positions of this PositionSet that are also in another with word-wise ANDs of their sections.</h3>
+     *
+     * @return This PositionSet.
+     */
+    public PositionSet intersect(final PositionSet other)
+    {
+        Objects.requireNonNull(other, "PositionSet required for intersection");
+        if (other == this) {
+            return this;
+        }
+        final var emptied = new LongSet();
+        sections.forEach((key, ours) -> {
+            final var theirs = other.sections.get(key);
+            int count = 0;
+            for (int i = 0; i < WORDS_PER_SECTION; i++) {
+                final long word = theirs == null ? 0 : ours.word(i) & theirs.word(i);
+                ours.setWord(i, word);
+                count += Long.bitCount(word);
+            }
+            size += count - ours.count;
+            ours.count = count;
+            if (count == 0) {
+                emptied.add(key);
+            }
+        });
+        emptied.forEach(key -> releaseSection(key, sections.get(key)));
+        return this;
+    }
+
+    /**
+     * <h3>Passes each position to the action in the packed layout of {@code BlockPos#asLong}.</h3>
+     */
+    public void forEach(final LongConsumer action)
+    {
+        Objects.requireNonNull(action);
+        sections.forEach((key, section) -> {
+            final int baseX = (int) (key >> 42) << 4;
+            final int baseY = (int) (key << 44 >> 44) << 4;
+            final int baseZ = (int) (key << 22 >> 42) << 4;
+            for (int i = 0; i < WORDS_PER_SECTION; i++) {
+                long word = section.word(i);
+                while (word != 0) {
+                    final int bit = i << 6 | Long.numberOfTrailingZeros(word);
+                    action.accept(pack(baseX | bit & 15, baseY | bit >>> 8, baseZ | bit >>> 4 & 15));
+                    word &= word - 1;
+                }
+            }
+        });
+    }
+
+    public LongSet toLongSet()
+    {
+        final var set = new LongSet(Math.toIntExact(size));
+        forEach(set::add);
+        return set;
+    }
+
+
+    /* Packing */
+
+    public static long pack(final int x, final int y, final int z)
+    {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (long) y & 0xFFFL;
+    }
+
+    public static int unpackX(final long packedPos)
+    {
+        return (int) (packedPos >> 38);
+    }
+
+    public static int unpackY(final long packedPos)
+    {
+        return (int) (packedPos << 52 >> 52);
+    }
+
+    public static int unpackZ(final long packedPos)
+    {
+        return (int) (packedPos << 26 >> 38);
+    }
+
+    /**
+     * <h3>The key of the section of a position, in the layout of {@code SectionPos#asLong}.</h3>
+     */
+    private static long sectionKey(final int x, final int y, final int z)
+    {
+        return ((long) (x >> 4) & 0x3FFFFFL) << 42 | ((long) (z >> 4) & 0x3FFFFFL) << 20 | (long) (y >> 4) & 0xFFFFFL;
+    }
+
+    private static int bitIndex(final int x, final int y, final int z)
+    {
+        return (y & 15) << 8 | (z & 15) << 4 | x & 15;
+    }
+
+
+    /* Section storage */
+
+    private Section newSection()
+    {
+        if (!offHeap) {
+            return new HeapSection();
+        }
+        final int slot;
+        if (freeSlots.isEmpty()) {
+            slot = nextSlot++;
+            if (slot % SECTIONS_PER_SLAB == 0) {
+                slabs.add(ByteBuffer.allocateDirect(SECTIONS_PER_SLAB * WORDS_PER_SECTION * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer());
+            }
+        } else {
+            slot = freeSlots.removeAt(freeSlots.size() - 1);
+        }
+        final var words = slabs.get(slot / SECTIONS_PER_SLAB).slice(slot % SECTIONS_PER_SLAB * WORDS_PER_SECTION, WORDS_PER_SECTION);
+        return new DirectSection(words, slot);
+    }
+
+    private void releaseSection(final long key, final Section section)
+    {
+        sections.remove(key);
+        if (section instanceof DirectSection direct) {
+            for (int i = 0; i < WORDS_PER_SECTION; i++) {
+                direct.words.put(i, 0L);
+            }
+            freeSlots.add(direct.slot);
+        }
+    }
+
+    private abstract static sealed class Section permits HeapSection, DirectSection
+    {
+        int count;
+
+        abstract long word(int index);
+
+        abstract void setWord(int index, long word);
+    }
+
+    private static final class HeapSection extends Section
+    {
+        private final long[] words = new long[WORDS_PER_SECTION];
+
+        @Override
+        long word(final int index)
+        {
+            return words[index];
+        }
+
+        @Override
+        void setWord(final int index, final long word)
+        {
+            words[index] = word;
+        }
+    }
+
+    private static final class DirectSection extends Section
+    {
+        private final LongBuffer words;
+        private final int slot;
+
+        private DirectSection(final LongBuffer words, final int slot)
+        {
+            this.words = words;
+            this.slot  = slot;
+        }
+
+        @Override
+        long word(final int index)
+        {
+            return words.get(index);
+        }
+
+        @Override
+        void setWord(final int index, final long word)
+        {
+            words.put(index, word);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Project      : srsLib
+ * File         : ConditionEvaluationEvent.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jetbrains.annotations.NotNull;
+
+import de.srsco.srslib.function.Condition;
+import de.srsco.srslib.function.Evaluator;
+
+
+/**
+ * A JFR event for {@link Condition} evaluations that take longer than a threshold, 1 ms by default.
+ * <p>
+ * {@link #evaluate} is used wherever srsLib drives an evaluation, such as ConditionalRunnables, the ConditionScheduler
+ * and the BudgetedConditionExecutor. It only takes timestamps when the event is enabled in a running recording.
+ * The threshold can be changed with the {@code srslib.ConditionEvaluation#threshold} setting.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@Name("srslib.ConditionEvaluation")
+@Label("Condition Evaluation")
+@Category({"srsLib", "Condition"})
+@Description("A slow evaluation of a Condition or Evaluator")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class ConditionEvaluationEvent extends Event
+{
+    private static final ConditionEvaluationEvent PROBE = new ConditionEvaluationEvent();
+
+    @Label("Evaluator Type")
+    private Class<?> evaluator;
+
+    @Label("Predicate Type")
+    private Class<?> predicate;
+
+    @Label("Passed")
+    private boolean passed;
+
+    /**
+     * <h3>Evaluates an Evaluator, and records the evaluation if the event is enabled and it exceeded the threshold.</h3>
+     *
+     * @param evaluator The Evaluator to evaluate.
+     * @return          The result of the evaluation.
+     */
+    public static boolean evaluate(@NotNull final Evaluator evaluator)
+    {
+        if (!PROBE.isEnabled()) {
+            return evaluator.evaluate();
+        }
+        final var event = new ConditionEvaluationEvent();
+        event.begin();
+        final boolean result = evaluator.evaluate();
+        event.end();
+        if (event.shouldCommit()) {
+            event.evaluator = evaluator.getClass();
+            event.predicate = evaluator instanceof Condition<?, ?, ?> condition ? condition.predicate().getClass() : null;
+            event.passed    = result;
+            event.commit();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Project      : srsLib
+ * File         : LangKeyBuildEvent.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * A JFR event for building a language key with {@link de.srsco.srslib.util.Util.LangKeyBuilder}.
+ * <p>
+ * {@link #start} returns null unless the event is enabled in a running recording, so builds neither allocate nor
+ * take timestamps when nothing is recording. The threshold can be changed with the {@code srslib.LangKeyBuild#threshold} setting.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@Name("srslib.LangKeyBuild")
+@Label("Lang Key Build")
+@Category({"srsLib", "Text"})
+@Description("The building of a language key")
+@StackTrace(false)
+@Threshold("10 us")
+public final class LangKeyBuildEvent extends Event
+{
+    private static final LangKeyBuildEvent PROBE = new LangKeyBuildEvent();
+
+    @Label("Key")
+    private String key;
+
+    @Label("Elements")
+    @Description("The number of path elements in the key")
+    private int elements;
+
+    /**
+     * <h3>Starts timing a build if the event is enabled.</h3>
+     *
+     * @return A started event, or null if the event is not enabled.
+     */
+    @Nullable
+    public static LangKeyBuildEvent start()
+    {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        final var event = new LangKeyBuildEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * <h3>Ends timing a build, and commits the event if it exceeded the threshold.</h3>
+     *
+     * @param key      The built key.
+     * @param elements The number of path elements in the key.
+     */
+    public void finish(final String key, final int elements)
+    {
+        end();
+        if (shouldCommit()) {
+            this.key      = key;
+            this.elements = elements;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Project      : srsLib
+ * File         : RegistryLookupEvent.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * A JFR event for the registry lookups of {@link de.srsco.srslib.util.Util}, i.e. {@code getRegistryFor} and {@code getResKey}.
+ * <p>
+ * {@link #start} returns null unless the event is enabled in a running recording, so lookups neither allocate nor
+ * take timestamps when nothing is recording. The threshold can be changed with the {@code srslib.RegistryLookup#threshold} setting.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@Name("srslib.RegistryLookup")
+@Label("Registry Lookup")
+@Category({"srsLib", "Registry"})
+@Description("A reverse lookup of the Registry or ResourceKey of an object")
+@StackTrace(false)
+@Threshold("10 us")
+public final class RegistryLookupEvent extends Event
+{
+    public static final String GET_REGISTRY_FOR = "getRegistryFor";
+    public static final String GET_RES_KEY      = "getResKey";
+
+    private static final RegistryLookupEvent PROBE = new RegistryLookupEvent();
+
+    @Label("Method")
+    private String method;
+
+    @Label("Object Type")
+    private Class<?> type;
+
+    @Label("Registry")
+    private String registry;
+
+    @Label("Found")
+    private boolean found;
+
+    @Label("Cache Hit")
+    @Description("Whether the Registry for the type of the object was already cached")
+    private boolean cacheHit;
+
+    /**
+     * <h3>Starts timing a lookup if the event is enabled.</h3>
+     *
+     * @param method The name of the lookup method.
+     * @param type   The class of the object being looked up.
+     * @return       A started event, or null if the event is not enabled.
+     */
+    @Nullable
+    public static RegistryLookupEvent start(final String method, final Class<?> type)
+    {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        final var event = new RegistryLookupEvent();
+        event.method = method;
+        event.type   = type;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * <h3>Ends timing a lookup, and commits the event if it exceeded the threshold.</h3>
+     *
+     * @param registry The name of the Registry that was found, if any.
+     * @param found    Whether the lookup found a result.
+     * @param cacheHit Whether the lookup was served from a cache.
+     */
+    public void finish(@Nullable final String registry, final boolean found, final boolean cacheHit)
+    {
+        end();
+        if (shouldCommit()) {
+            this.registry = registry;
+            this.found    = found;
+            this.cacheHit = cacheHit;
+            commit();
+        }
+    }
+}
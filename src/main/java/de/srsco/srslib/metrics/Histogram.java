@@ -0,0 +1,197 @@
+/*
+ * Project      : srsLib
+ * File         : Histogram.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A fixed-bucket histogram of non-negative values, i.e. latencies in nanoseconds.
+ * <p>
+ * Like an HDR histogram, buckets are log-linear: each power of two is split into {@link #SUB_BUCKETS} equal buckets,
+ * so every recorded value is accurate to within 12.5% across the whole long range, in a fixed array of
+ * {@link #BUCKETS} counts. Like a {@link LongAdder}, the bucket counts are striped: each thread adds to the counts of
+ * the stripe its thread id maps to, so hot buckets are only contended by threads sharing a stripe, and a snapshot sums
+ * the stripes. Recording a value is a few bit operations and four striped atomic adds, and only allocates the first
+ * time a stripe is used.
+ *
+ * @see Metrics#histogram(String)
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class Histogram
+{
+    private static final int SUB_BUCKET_BITS = 3;
+    /** The number of buckets per power of two. */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** The total number of buckets. */
+    public static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    /** The maximum number of stripes that the bucket counts are spread across. */
+    public static final int MAX_STRIPES = 16;
+    private static final int STRIPES = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+    private final String name;
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram(final String name)
+    {
+        this.name = name;
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    /**
+     * <h3>Records a value. Negative values are recorded as 0.</h3>
+     */
+    public void record(final long value)
+    {
+        final long clamped = Math.max(0, value);
+        stripe().incrementAndGet(bucketOf(clamped));
+        count.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * <h3>Records the nanoseconds elapsed since a {@link System#nanoTime()} timestamp.</h3>
+     */
+    public void recordSince(final long startNanos)
+    {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public Snapshot snapshot()
+    {
+        final var buckets = new long[BUCKETS];
+        for (int s = 0; s < STRIPES; s++) {
+            final var counts = stripes.get(s);
+            if (counts != null) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    buckets[i] += counts.get(i);
+                }
+            }
+        }
+        return new Snapshot(count.sum(), sum.sum(), max.get(), buckets);
+    }
+
+    void reset()
+    {
+        for (int s = 0; s < STRIPES; s++) {
+            final var counts = stripes.get(s);
+            if (counts != null) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    counts.set(i, 0);
+                }
+            }
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * <h3>Returns the bucket counts of the current thread's stripe, creating them on first use.</h3>
+     * Thread ids are assigned sequentially, so concurrently running threads usually map to different stripes.
+     */
+    private AtomicLongArray stripe()
+    {
+        final int index = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        final var counts = stripes.get(index);
+        if (counts != null) {
+            return counts;
+        }
+        stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS));
+        return stripes.get(index);
+    }
+
+    static int bucketOf(final long value)
+    {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(final int bucket)
+    {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * <h3>A point-in-time copy of a histogram.</h3>
+     *
+     * @param count   The number of recorded values.
+     * @param sum     The sum of all recorded values.
+     * @param max     The largest recorded value.
+     * @param buckets The count of each bucket.
+     */
+    public record Snapshot(long count, long sum, long max, long[] buckets)
+    {
+        public double mean()
+        {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * <h3>Returns an upper bound of the value at a percentile, from 0 to 100.</h3>
+         */
+        public long percentile(final double percentile)
+        {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
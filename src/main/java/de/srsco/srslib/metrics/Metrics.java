@@ -0,0 +1,157 @@
+/*
+ * Project      : srsLib
+ * File         : Metrics.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * A registry of always-on, low-overhead operational metrics: {@link Counter}s, {@link Histogram}s and gauges.
+ * <p>
+ * Metrics are created once by name, and should be kept in static final fields by the code that reports into them,
+ * so that reporting is a single striped add. srsLib reports registry lookups, Condition evaluations and translations
+ * under the {@code srslib.} prefix. {@link #snapshot()} copies the current values of all metrics, and {@link MetricsCommand}
+ * dumps them in-game.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class Metrics
+{
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> GAUGES = new ConcurrentHashMap<>();
+
+    private Metrics() {}
+
+    /**
+     * <h3>Gets or creates the counter with a name.</h3>
+     */
+    public static Counter counter(@NotNull final String name)
+    {
+        return COUNTERS.computeIfAbsent(Objects.requireNonNull(name, "A metric requires a name."), Counter::new);
+    }
+
+    /**
+     * <h3>Gets or creates the histogram with a name.</h3>
+     */
+    public static Histogram histogram(@NotNull final String name)
+    {
+        return HISTOGRAMS.computeIfAbsent(Objects.requireNonNull(name, "A metric requires a name."), Histogram::new);
+    }
+
+    /**
+     * <h3>Registers a gauge, a value that is read when a snapshot is taken, replacing any gauge with the same name.</h3>
+     */
+    public static void gauge(@NotNull final String name, @NotNull final LongSupplier value)
+    {
+        GAUGES.put(Objects.requireNonNull(name, "A metric requires a name."), Objects.requireNonNull(value, "A gauge requires a value."));
+    }
+
+    /**
+     * <h3>Copies the current values of all metrics.</h3>
+     */
+    public static Snapshot snapshot()
+    {
+        final var counters = new TreeMap<String, Long>();
+        COUNTERS.forEach((name, counter) -> counters.put(name, counter.sum()));
+        final var gauges = new TreeMap<String, Long>();
+        GAUGES.forEach((name, gauge) -> gauges.put(name, gauge.getAsLong()));
+        final var histograms = new TreeMap<String, Histogram.Snapshot>();
+        HISTOGRAMS.forEach((name, histogram) -> histograms.put(name, histogram.snapshot()));
+        return new Snapshot(Instant.now(), Collections.unmodifiableSortedMap(counters), Collections.unmodifiableSortedMap(gauges),
+            Collections.unmodifiableSortedMap(histograms));
+    }
+
+    /**
+     * <h3>Resets all counters and histograms to zero.</h3>
+     */
+    public static void reset()
+    {
+        COUNTERS.values().forEach(Counter::reset);
+        HISTOGRAMS.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * <h3>A point-in-time copy of all metrics, sorted by name.</h3>
+     *
+     * @param time       When the snapshot was taken.
+     * @param counters   The sums of all counters.
+     * @param gauges     The values of all gauges.
+     * @param histograms The snapshots of all histograms.
+     */
+    public record Snapshot(Instant time, SortedMap<String, Long> counters, SortedMap<String, Long> gauges, SortedMap<String, Histogram.Snapshot> histograms)
+    {
+        /**
+         * <h3>Formats the metrics whose names start with a prefix as lines of text.</h3>
+         */
+        public List<String> format(@NotNull final String prefix)
+        {
+            final var lines = new ArrayList<String>();
+            counters.forEach((name, sum) -> {
+                if (name.startsWith(prefix)) {
+                    lines.add(name + " = " + sum);
+                }
+            });
+            gauges.forEach((name, value) -> {
+                if (name.startsWith(prefix)) {
+                    lines.add(name + " = " + value);
+                }
+            });
+            histograms.forEach((name, histogram) -> {
+                if (name.startsWith(prefix)) {
+                    lines.add(String.format("%s: count=%d mean=%.0f p50=%d p99=%d max=%d", name, histogram.count(), histogram.mean(),
+                        histogram.percentile(50), histogram.percentile(99), histogram.max()));
+                }
+            });
+            return lines;
+        }
+
+        /**
+         * <h3>Returns the ratio of two counters, i.e. a hit or pass rate, or 0 if the denominator is 0 or absent.</h3>
+         */
+        public double ratio(@NotNull final String numerator, @NotNull final String denominator)
+        {
+            final long total = counters.getOrDefault(denominator, 0L);
+            return total == 0 ? 0 : (double) counters.getOrDefault(numerator, 0L) / total;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Project      : srsLib
+ * File         : MetricsCommand.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.metrics;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+
+/**
+ * A server command that dumps a {@link Metrics#snapshot()} to its source.
+ * <p>
+ * srsLib has no mod entrypoint of its own, so the command is attached by a mod in its RegisterCommandsEvent handler,
+ * eg: {@code event.getDispatcher().register(Commands.literal(MODID).then(MetricsCommand.create("metrics")));}
+ * Running {@code /<modid> metrics [prefix]} then lists all metrics, or those whose names start with the prefix.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class MetricsCommand
+{
+    private static final String PREFIX = "prefix";
+
+    private MetricsCommand() {}
+
+    /**
+     * <h3>Creates the command node, which requires permission level 2.</h3>
+     *
+     * @param name The literal name of the command.
+     * @return     The command node.
+     */
+    public static LiteralArgumentBuilder<CommandSourceStack> create(@NotNull final String name)
+    {
+        return Commands.literal(name)
+            .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+            .executes(context -> dump(context.getSource(), ""))
+            .then(Commands.argument(PREFIX, StringArgumentType.word())
+                .executes(context -> dump(context.getSource(), StringArgumentType.getString(context, PREFIX))));
+    }
+
+    private static int dump(final CommandSourceStack source, final String prefix)
+    {
+        final var lines = Metrics.snapshot().format(prefix);
+        if (lines.isEmpty()) {
+            source.sendFailure(Component.literal("No metrics found" + (prefix.isEmpty() ? "" : " for prefix " + prefix)));
+            return 0;
+        }
+        lines.forEach(line -> source.sendSuccess(() -> Component.literal(line), false));
+        return lines.size();
+    }
+}
@@ -37,10 +37,18 @@ import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
 
 import org.jetbrains.annotations.NotNull;
 
+import de.srsco.srslib.function.TypeRouter;
+import de.srsco.srslib.iterable.primitive.IntArrayList;
+import de.srsco.srslib.iterable.primitive.IntSet;
+import de.srsco.srslib.iterable.primitive.Long2ObjectMap;
+import de.srsco.srslib.iterable.primitive.LongSet;
+
 
 @SuppressWarnings({"unused", "WeakerAccess"})
 public final class SLCollectors
@@ -120,7 +128,8 @@ public final class SLCollectors
      * <p>
      * Short-circuits and returns an empty Optional before executing the finisher if:
      * the resultant object of the combiner is an {@link Iterable} with 0 elements, or
-     * a {@link CharSequence} with 0 length, or a {@link StringJoiner} with 0 length.
+     * a {@link CharSequence} with 0 length, or a {@link StringJoiner} with 0 length,
+     * or one of the primitive collections of {@link de.srsco.srslib.iterable.primitive} with 0 elements.
      * Otherwise, if the result of the finisher operation is null, then an empty Optional is returned.
      *
      * @param finisher The original finisher function from a Collector.
@@ -139,10 +148,158 @@ public final class SLCollectors
             case Iterable<?>  it when !it.iterator().hasNext() -> Optional.empty();
             case CharSequence cs when cs.isEmpty()             -> Optional.empty();
             case StringJoiner sj when sj.length() == 0         -> Optional.empty();
+            case IntArrayList il when il.isEmpty()             -> Optional.empty();
+            case IntSet       is when is.isEmpty()             -> Optional.empty();
+            case LongSet      ls when ls.isEmpty()             -> Optional.empty();
+            case Long2ObjectMap<?> lm when lm.isEmpty()        -> Optional.empty();
             default                                            -> Optional.ofNullable(finisher.apply(obj));
         };
     }
 
+    /**
+     * <h3>A Collector that accumulates unboxed ints mapped from the input elements into an {@link IntArrayList}.</h3>
+     *
+     * @param mapper A Function that maps an element to an int.
+     * @param <T>    The input element type
+     * @return The Collector
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T> Collector<T, IntArrayList, IntArrayList> toIntList(@NotNull final ToIntFunction<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "A mapping function is required.");
+        return Collector.of(IntArrayList::new, (list, elem) -> list.add(mapper.applyAsInt(elem)), IntArrayList::addAll,
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * <h3>A Collector that accumulates unboxed ints mapped from the input elements into an {@link IntSet}.</h3>
+     *
+     * @param mapper A Function that maps an element to an int.
+     * @param <T>    The input element type
+     * @return The Collector
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T> Collector<T, IntSet, IntSet> toIntSet(@NotNull final ToIntFunction<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "A mapping function is required.");
+        return Collector.of(IntSet::new, (set, elem) -> set.add(mapper.applyAsInt(elem)), IntSet::addAll,
+            Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * <h3>A Collector that accumulates unboxed longs mapped from the input elements into a {@link LongSet}.</h3>
+     *
+     * @param mapper A Function that maps an element to a long.
+     * @param <T>    The input element type
+     * @return The Collector
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T> Collector<T, LongSet, LongSet> toLongSet(@NotNull final ToLongFunction<? super T> mapper)
+    {
+        Objects.requireNonNull(mapper, "A mapping function is required.");
+        return Collector.of(LongSet::new, (set, elem) -> set.add(mapper.applyAsLong(elem)), LongSet::addAll,
+            Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * <h3>A Collector that accumulates the input elements into a {@link Long2ObjectMap} with unboxed long keys.</h3>
+     * As with {@link java.util.stream.Collectors#toMap(Function, Function)}, duplicate keys are an error.
+     *
+     * @param keyMapper   A Function that maps an element to a long key.
+     * @param valueMapper A Function that maps an element to a non-null value.
+     * @param <T>         The input element type
+     * @param <V>         The value type
+     * @return The Collector
+     * @throws IllegalStateException when collecting if two elements map to the same key.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T, V> Collector<T, Long2ObjectMap<V>, Long2ObjectMap<V>> toLong2ObjectMap(@NotNull final ToLongFunction<? super T> keyMapper,
+                                                                                            @NotNull final Function<? super T, ? extends V> valueMapper)
+    {
+        return toLong2ObjectMap(keyMapper, valueMapper, (a, b) -> {
+            throw new IllegalStateException("Duplicate values for a key: " + a + " and " + b);
+        });
+    }
+
+    /**
+     * <h3>A Collector that accumulates the input elements into a {@link Long2ObjectMap} with unboxed long keys.</h3>
+     *
+     * @param keyMapper   A Function that maps an element to a long key.
+     * @param valueMapper A Function that maps an element to a non-null value.
+     * @param merger      A Function that resolves the values of duplicate keys.
+     * @param <T>         The input element type
+     * @param <V>         The value type
+     * @return The Collector
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T, V> Collector<T, Long2ObjectMap<V>, Long2ObjectMap<V>> toLong2ObjectMap(@NotNull final ToLongFunction<? super T> keyMapper,
+                                                                                            @NotNull final Function<? super T, ? extends V> valueMapper,
+                                                                                            @NotNull final BinaryOperator<V> merger)
+    {
+        Objects.requireNonNull(keyMapper, "A key mapping function is required.");
+        Objects.requireNonNull(valueMapper, "A value mapping function is required.");
+        Objects.requireNonNull(merger, "A merging function is required.");
+        return Collector.of(Long2ObjectMap::new,
+            (map, elem) -> mergeValue(map, keyMapper.applyAsLong(elem), valueMapper.apply(elem), merger),
+            (a, b) -> {
+                b.forEach((key, value) -> mergeValue(a, key, value, merger));
+                return a;
+            },
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    private static <V> void mergeValue(final Long2ObjectMap<V> map, final long key, final V value, final BinaryOperator<V> merger)
+    {
+        final var existing = map.get(key);
+        map.put(key, existing == null ? value : merger.apply(existing, value));
+    }
+
+    /**
+     * <h3>A Collector that partitions the input elements by a list of target classes in a single pass.</h3>
+     * <p>eg: Given a Stream&lt;Entity&gt;: {@code stream.collect(SLCollectors.partitionByType(Player.class, Mob.class, ItemEntity.class))}
+     * followed by {@code partition.get(Player.class)} replaces a separate {@link de.srsco.srslib.function.SLFunctions#subclassFilter}
+     * pass per class. Each element is placed with the first target class that it is an instance of,
+     * so subclasses should be listed before their superclasses.
+     * <p>Each call creates a new {@link TypeRouter} with an empty class cache, so a Collector that is used repeatedly
+     * (eg: every tick) should be kept in a static field, or created with {@link #partitionByType(TypeRouter)}
+     * from a shared router.
+     *
+     * @param targets The classes to partition elements by.
+     * @param <T>     The input element type
+     * @return The Collector
+     *
+     * @see TypeRouter
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T> Collector<T, TypePartition<T>, TypePartition<T>> partitionByType(@NotNull final Class<?>... targets)
+    {
+        return partitionByType(TypeRouter.<T>indexing(targets));
+    }
+
+    /**
+     * <h3>A Collector that partitions the input elements by the target classes of a router in a single pass.</h3>
+     * <p>The routes of the router are not run; only its targets and its cached class lookups are used, so a router
+     * kept in a static field lets every Collector created from it share those lookups.
+     *
+     * @param router The router whose target classes the elements are partitioned by.
+     * @param <T>    The input element type
+     * @return The Collector
+     *
+     * @see #partitionByType(Class[])
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static <T> Collector<T, TypePartition<T>, TypePartition<T>> partitionByType(@NotNull final TypeRouter<T> router)
+    {
+        Objects.requireNonNull(router, "A router is required to partition by type.");
+        return Collector.of(() -> new TypePartition<>(router), TypePartition::add, TypePartition::merge,
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
     /**
      * <h3>A helper function to remove the Collector.Characteristics.IDENTITY_FINISH directive.</h3>
      *
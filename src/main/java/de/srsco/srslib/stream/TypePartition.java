@@ -0,0 +1,106 @@
+/*
+ * Project      : srsLib
+ * File         : TypePartition.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT) 
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the 
+ * "Software"), to deal in the Software without restriction, including 
+ * without limitation the rights to use, copy, modify, merge, publish, 
+ * distribute, sublicense, and/or sell copies of the Software, and to 
+ * permit persons to whom the Software is furnished to do so, subject to 
+ * the following conditions: 
+ *
+ * The above copyright notice and this permission notice shall be included 
+ * in all copies or substantial portions of the Software. 
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS 
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF 
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. 
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY 
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, 
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE 
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE. 
+ *
+ */
+
+package de.srsco.srslib.stream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import de.srsco.srslib.function.TypeRouter;
+
+
+/**
+ * The result of partitioning objects by a list of target classes in a single pass, with a list per target class
+ * and a list of objects that matched none of them. Each object is placed in the list of the first target class
+ * that it is an instance of.
+ *
+ * @param <T> The common supertype of the partitioned objects.
+ *
+ * @see SLCollectors#partitionByType(TypeRouter)
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class TypePartition<T>
+{
+    private final TypeRouter<T> router;
+    private final List<Object>[] buckets;
+    private final List<T> unmatched = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    TypePartition(final TypeRouter<T> router)
+    {
+        this.router  = router;
+        this.buckets = (List<Object>[]) new List<?>[router.targets().size()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * <h3>Returns the objects placed in the list of a target class.</h3>
+     *
+     * @throws IllegalArgumentException if the class is not one of the target classes.
+     */
+    @SuppressWarnings("unchecked")
+    public <B> List<B> get(@NotNull final Class<B> target)
+    {
+        final int index = router.indexOf(target);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not a target class of this partition: " + target.getName());
+        }
+        return Collections.unmodifiableList((List<B>) buckets[index]);
+    }
+
+    public List<T> unmatched()
+    {
+        return Collections.unmodifiableList(unmatched);
+    }
+
+    void add(final T obj)
+    {
+        final int bucket = router.bucketOf(obj);
+        if (bucket >= 0) {
+            buckets[bucket].add(obj);
+        } else {
+            unmatched.add(obj);
+        }
+    }
+
+    TypePartition<T> merge(final TypePartition<T> other)
+    {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i].addAll(other.buckets[i]);
+        }
+        unmatched.addAll(other.unmatched);
+        return this;
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * Project      : srsLib
+ * File         : BoundedCache.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import de.srsco.srslib.metrics.Metrics;
+
+
+/**
+ * A bounded, thread-safe cache with lock-free reads and CLOCK eviction.
+ * <p>
+ * Entries live in a {@link ConcurrentHashMap}, so reads never lock, and a hit only sets the entry's reference bit.
+ * Admission and eviction are striped: each entry belongs to one of up to {@link #MAX_STRIPES} segments by hash,
+ * and each segment holds a ring of its entries and a CLOCK hand, guarded by its own lock. When a segment is full,
+ * its hand sweeps the ring, clearing reference bits until it finds an entry that has not been read since the last sweep,
+ * which is evicted. The maximum size is therefore approximate, rounded up to a multiple of the number of segments.
+ * <p>
+ * Keys are held strongly by default. Weak or soft keys are compared by identity, and their entries are dropped once
+ * the key is collected; lookups with them allocate a small wrapper, so strong keys should be preferred for hot paths.
+ * Values can not be null, and a loader that returns null caches nothing.
+ * <p>
+ * eg: {@code BoundedCache.of(1024, KeyStrength.WEAK, type -> computeSomething(type))}
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class BoundedCache<K, V>
+{
+    /** The maximum number of segments that a cache is striped across. */
+    public static final int MAX_STRIPES = 16;
+    private static final int MIN_SEGMENT_SIZE = 8;
+
+    private final ConcurrentHashMap<Object, Node<V>> map = new ConcurrentHashMap<>();
+    private final Segment<V>[] segments;
+    private final KeyStrength keyStrength;
+    @Nullable
+    private final Function<? super K, ? extends V> loader;
+    @Nullable
+    private final ReferenceQueue<K> queue;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private BoundedCache(final int maximumSize, final KeyStrength keyStrength, @Nullable final Function<? super K, ? extends V> loader)
+    {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a cache must be positive: " + maximumSize);
+        }
+        this.keyStrength = Objects.requireNonNull(keyStrength, "A cache requires a key strength.");
+        this.loader      = loader;
+        this.queue       = keyStrength == KeyStrength.STRONG ? null : new ReferenceQueue<>();
+        final int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, maximumSize / MIN_SEGMENT_SIZE)));
+        this.segments = (Segment<V>[]) new Segment<?>[stripes];
+        for (int i = 0; i < stripes; i++) {
+            segments[i] = new Segment<>((maximumSize + stripes - 1) / stripes);
+        }
+    }
+
+    /**
+     * <h3>Creates a cache with strong keys and no loader.</h3>
+     */
+    public static <K, V> BoundedCache<K, V> of(final int maximumSize)
+    {
+        return new BoundedCache<>(maximumSize, KeyStrength.STRONG, null);
+    }
+
+    /**
+     * <h3>Creates a cache with strong keys that loads missing values with a loader.</h3>
+     */
+    public static <K, V> BoundedCache<K, V> of(final int maximumSize, @NotNull final Function<? super K, ? extends V> loader)
+    {
+        return new BoundedCache<>(maximumSize, KeyStrength.STRONG, Objects.requireNonNull(loader, "A loading cache requires a loader."));
+    }
+
+    /**
+     * <h3>Creates a cache with a key strength that loads missing values with a loader, if it is not null.</h3>
+     */
+    public static <K, V> BoundedCache<K, V> of(final int maximumSize, @NotNull final KeyStrength keyStrength, @Nullable final Function<? super K, ? extends V> loader)
+    {
+        return new BoundedCache<>(maximumSize, keyStrength, loader);
+    }
+
+
+    /* Lookups */
+
+    /**
+     * <h3>Returns the cached value for a key, or null if there is none.</h3>
+     */
+    @Nullable
+    public V getIfPresent(@NotNull final K key)
+    {
+        final var node = map.get(lookupKey(key));
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        node.referenced = true;
+        hits.increment();
+        return node.value;
+    }
+
+    /**
+     * <h3>Returns the cached value for a key, loading it with the cache's loader if there is none.</h3>
+     *
+     * @throws IllegalStateException if the cache has no loader.
+     */
+    @Nullable
+    public V get(@NotNull final K key)
+    {
+        if (loader == null) {
+            throw new IllegalStateException("This cache has no loader, use getIfPresent or get(key, loader).");
+        }
+        return get(key, loader);
+    }
+
+    /**
+     * <h3>Returns the cached value for a key, loading it with a loader if there is none.</h3>
+     * Concurrent loads of the same key may each run the loader, in which case the first value to be cached wins.
+     */
+    @Nullable
+    public V get(@NotNull final K key, @NotNull final Function<? super K, ? extends V> loader)
+    {
+        final var cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final V value = loader.apply(key);
+        loads.increment();
+        return value == null ? null : putIfAbsent(key, value);
+    }
+
+    /**
+     * <h3>Returns whether a key is cached, without counting as a hit or a miss.</h3>
+     */
+    public boolean containsKey(@NotNull final K key)
+    {
+        return map.containsKey(lookupKey(key));
+    }
+
+
+    /* Updates */
+
+    /**
+     * <h3>Caches a value for a key, replacing any cached value.</h3>
+     */
+    public void put(@NotNull final K key, @NotNull final V value)
+    {
+        Objects.requireNonNull(value, "A cache can not hold null values.");
+        final var existing = map.get(lookupKey(key));
+        if (existing != null) {
+            existing.value = value;
+            existing.referenced = true;
+        } else {
+            putIfAbsent(key, value);
+        }
+    }
+
+    /**
+     * <h3>Removes the cached value for a key, returning it or null if there was none.</h3>
+     */
+    @Nullable
+    public V invalidate(@NotNull final K key)
+    {
+        final var node = map.remove(lookupKey(key));
+        if (node == null) {
+            return null;
+        }
+        node.removed = true;
+        return node.value;
+    }
+
+    /**
+     * <h3>Removes all cached values.</h3>
+     */
+    public void clear()
+    {
+        for (final var segment : segments) {
+            segment.lock.lock();
+            try {
+                for (int i = 0; i < segment.size; i++) {
+                    map.remove(segment.ring[i].key, segment.ring[i]);
+                    segment.ring[i] = null;
+                }
+                segment.size = 0;
+                segment.hand = 0;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+
+    /* Statistics */
+
+    public int size()
+    {
+        return map.size();
+    }
+
+    public KeyStrength keyStrength()
+    {
+        return keyStrength;
+    }
+
+    public Stats stats()
+    {
+        return new Stats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), map.size());
+    }
+
+    /**
+     * <h3>Reports the size and statistics of this cache as {@link Metrics} gauges, named {@code <prefix>.size}, {@code .hits}, etc.</h3>
+     */
+    public BoundedCache<K, V> registerMetrics(@NotNull final String prefix)
+    {
+        Metrics.gauge(prefix + ".size", map::size);
+        Metrics.gauge(prefix + ".hits", hits::sum);
+        Metrics.gauge(prefix + ".misses", misses::sum);
+        Metrics.gauge(prefix + ".loads", loads::sum);
+        Metrics.gauge(prefix + ".evictions", evictions::sum);
+        return this;
+    }
+
+
+    /* Internals */
+
+    private Object lookupKey(final K key)
+    {
+        Objects.requireNonNull(key, "A cache can not hold null keys.");
+        return keyStrength == KeyStrength.STRONG ? key : new Lookup(key);
+    }
+
+    private Object storedKey(final K key)
+    {
+        return switch (keyStrength) {
+            case STRONG -> key;
+            case WEAK   -> new WeakKey<>(key, queue);
+            case SOFT   -> new SoftKey<>(key, queue);
+        };
+    }
+
+    private V putIfAbsent(final K key, final V value)
+    {
+        expungeCollectedKeys();
+        final var storedKey = storedKey(key);
+        final var node = new Node<>(storedKey, value);
+        final var existing = map.putIfAbsent(storedKey, node);
+        if (existing != null) {
+            existing.referenced = true;
+            return existing.value;
+        }
+        admit(node);
+        return value;
+    }
+
+    private void admit(final Node<V> node)
+    {
+        final var segment = segments[spread(node.key.hashCode()) & (segments.length - 1)];
+        segment.lock.lock();
+        try {
+            if (segment.size < segment.ring.length) {
+                segment.ring[segment.size++] = node;
+                return;
+            }
+            final var ring = segment.ring;
+            while (true) {
+                final var candidate = ring[segment.hand];
+                if (candidate.removed || !candidate.referenced) {
+                    if (!candidate.removed && map.remove(candidate.key, candidate)) {
+                        evictions.increment();
+                    }
+                    ring[segment.hand] = node;
+                    segment.hand = (segment.hand + 1) % ring.length;
+                    return;
+                }
+                candidate.referenced = false;
+                segment.hand = (segment.hand + 1) % ring.length;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private void expungeCollectedKeys()
+    {
+        if (queue == null) {
+            return;
+        }
+        Reference<? extends K> ref;
+        while ((ref = queue.poll()) != null) {
+            final var node = map.remove(ref);
+            if (node != null) {
+                node.removed = true;
+                evictions.increment();
+            }
+        }
+    }
+
+    private static int spread(final int hash)
+    {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * The strength with which a cache holds its keys.
+     */
+    public enum KeyStrength
+    {
+        /** Keys are held strongly and compared with equals. */
+        STRONG,
+        /** Keys are held weakly and compared by identity, so entries are dropped once their key is only weakly reachable. */
+        WEAK,
+        /** Keys are held softly and compared by identity, so entries are dropped when memory is low. */
+        SOFT
+    }
+
+    /**
+     * <h3>A snapshot of a cache's statistics.</h3>
+     *
+     * @param hits      The number of lookups that found a cached value.
+     * @param misses    The number of lookups that found no cached value.
+     * @param loads     The number of values loaded by a loader.
+     * @param evictions The number of entries evicted for space or because their key was collected.
+     * @param size      The number of cached entries.
+     */
+    public record Stats(long hits, long misses, long loads, long evictions, int size)
+    {
+        public double hitRate()
+        {
+            final long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Node<V>
+    {
+        private final Object key;
+        private volatile V value;
+        private volatile boolean removed;
+        private boolean referenced;
+
+        private Node(final Object key, final V value)
+        {
+            this.key   = key;
+            this.value = value;
+        }
+    }
+
+    private static final class Segment<V>
+    {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Node<V>[] ring;
+        private int size;
+        private int hand;
+
+        @SuppressWarnings("unchecked")
+        private Segment(final int capacity)
+        {
+            this.ring = (Node<V>[]) new Node<?>[capacity];
+        }
+    }
+
+    /**
+     * An identity-compared key wrapper, for looking up weak and soft keys without creating a Reference.
+     */
+    private record Lookup(Object referent)
+    {
+        @Override
+        public boolean equals(final Object obj)
+        {
+            return obj instanceof KeyReference ref && ref.referent() == referent;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(referent);
+        }
+    }
+
+    private interface KeyReference
+    {
+        Object referent();
+    }
+
+    private static final class WeakKey<K> extends WeakReference<K> implements KeyReference
+    {
+        private final int hash;
+
+        private WeakKey(final K key, final ReferenceQueue<K> queue)
+        {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public Object referent()
+        {
+            return get();
+        }
+
+        @Override
+        public boolean equals(final Object obj)
+        {
+            return this == obj || obj instanceof KeyReference ref && ref.referent() != null && ref.referent() == get()
+                || obj instanceof Lookup lookup && lookup.referent() == get();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    private static final class SoftKey<K> extends SoftReference<K> implements KeyReference
+    {
+        private final int hash;
+
+        private SoftKey(final K key, final ReferenceQueue<K> queue)
+        {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public Object referent()
+        {
+            return get();
+        }
+
+        @Override
+        public boolean equals(final Object obj)
+        {
+            return this == obj || obj instanceof KeyReference ref && ref.referent() != null && ref.referent() == get()
+                || obj instanceof Lookup lookup && lookup.referent() == get();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
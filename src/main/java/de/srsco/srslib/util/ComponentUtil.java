@@ -33,14 +33,29 @@ package de.srsco.srslib.util;
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.network.chat.contents.TranslatableContents;
 import net.minecraft.world.entity.player.Player;
 
+import de.srsco.srslib.metrics.Counter;
+import de.srsco.srslib.metrics.Metrics;
+
 
 @SuppressWarnings({"unused", "WeakerAccess"})
 public final class ComponentUtil
 {
     private static final Object[] EMPTY_ARGS = new Object[0];
 
+    private static final Counter TRANSLATIONS = Metrics.counter("srslib.translation.components");
+    private static final Counter FALLBACKS    = Metrics.counter("srslib.translation.fallbacks");
+
+    /**
+     * Contents of argument-free translations, shared between Components as {@link MutableComponent#copy} does,
+     * so that each langkey is only decomposed once per language.
+     */
+    private static final BoundedCache<TranslationKey, TranslatableContents> CONTENTS = BoundedCache.<TranslationKey, TranslatableContents>of(
+        2048, key -> new TranslatableContents(key.key(), key.fallback(), TranslatableContents.NO_ARGS)).registerMetrics("srslib.translation.cache");
+
     private ComponentUtil() {}
 
 
@@ -131,6 +146,15 @@ public final class ComponentUtil
     public static Component getTranslation(final String key, @Nullable final String fallback, @Nullable final Component component, final Object... objs)
     {
         final var fb = (fallback != null && fallback.isBlank()) ? null : fallback;
+        TRANSLATIONS.increment();
+        if (fb != null) {
+            FALLBACKS.increment();
+        }
+        if (component == null && objs.length == 0) {
+            return MutableComponent.create(CONTENTS.get(new TranslationKey(key, fb)));
+        }
         return component == null ? Component.translatableWithFallback(key, fb, objs) : Component.translatableWithFallback(key, fb, component, objs);
     }
+
+    private record TranslationKey(String key, @Nullable String fallback) {}
 }
@@ -0,0 +1,156 @@
+/*
+ * Project      : srsLib
+ * File         : Loggers.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.util;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * A caching {@link Logger} provider and guarded, lazily built log messages.
+ * <p>
+ * Loggers are created once per class and cached via {@link ClassValue}, so repeated lookups skip the
+ * {@link LoggerFactory}. {@link #forCaller()} resolves the calling class with a single StackWalker frame lookup,
+ * and is intended to be called once per call site, i.e. {@code private static final Logger LOGGER = Loggers.forCaller();}
+ * <p>
+ * The lazy logging methods check whether a level is enabled before building a message, so disabled debug
+ * logging in hot paths costs neither a stack walk nor string building.
+ * <p>
+ * eg: {@code Loggers.debug(LOGGER, () -> "Evaluated " + conditions.size() + " conditions");}
+ *
+ * @since 4.4.0, MC 1.21.1, 2026.10.18
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class Loggers
+{
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>()
+    {
+        @Override
+        protected Logger computeValue(final Class<?> type)
+        {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
+    private Loggers() {}
+
+
+    /* Logger lookups */
+
+    /**
+     * <h3>Gets the cached {@link Logger} for the class calling this method.</h3>
+     *
+     * @return The Logger for the calling class.
+     */
+    public static Logger forCaller()
+    {
+        return LOGGERS.get(WALKER.getCallerClass());
+    }
+
+    /**
+     * <h3>Gets the cached {@link Logger} for a class.</h3>
+     *
+     * @param type The class to get a Logger for.
+     * @return     The Logger for the class.
+     */
+    public static Logger forClass(@NotNull final Class<?> type)
+    {
+        return LOGGERS.get(Objects.requireNonNull(type, "A class is required to get a Logger."));
+    }
+
+
+    /* Guarded lazy messages */
+
+    /**
+     * <h3>Logs a message at TRACE level, building it only if TRACE is enabled.</h3>
+     */
+    public static void trace(@NotNull final Logger logger, @NotNull final Supplier<String> message)
+    {
+        if (logger.isTraceEnabled()) {
+            logger.trace(message.get());
+        }
+    }
+
+    /**
+     * <h3>Logs a message at DEBUG level, building it only if DEBUG is enabled.</h3>
+     */
+    public static void debug(@NotNull final Logger logger, @NotNull final Supplier<String> message)
+    {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
+    /**
+     * <h3>Logs a formatted message at DEBUG level, resolving the argument only if DEBUG is enabled.</h3>
+     */
+    public static void debug(@NotNull final Logger logger, @NotNull final String format, @NotNull final Supplier<?> arg)
+    {
+        if (logger.isDebugEnabled()) {
+            logger.debug(format, arg.get());
+        }
+    }
+
+    /**
+     * <h3>Logs a formatted message at DEBUG level, resolving the arguments only if DEBUG is enabled.</h3>
+     */
+    public static void debug(@NotNull final Logger logger, @NotNull final String format, @NotNull final Supplier<?> arg1, @NotNull final Supplier<?> arg2)
+    {
+        if (logger.isDebugEnabled()) {
+            logger.debug(format, arg1.get(), arg2.get());
+        }
+    }
+
+    /**
+     * <h3>Logs a message at INFO level, building it only if INFO is enabled.</h3>
+     */
+    public static void info(@NotNull final Logger logger, @NotNull final Supplier<String> message)
+    {
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
+    }
+
+    /**
+     * <h3>Logs a message at WARN level, building it only if WARN is enabled.</h3>
+     */
+    public static void warn(@NotNull final Logger logger, @NotNull final Supplier<String> message)
+    {
+        if (logger.isWarnEnabled()) {
+            logger.warn(message.get());
+        }
+    }
+}
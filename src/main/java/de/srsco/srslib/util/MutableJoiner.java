@@ -127,6 +127,18 @@ public final class MutableJoiner extends AbstractCollection<CharSequence> implem
         return elements.size() == 0 ? Optional.empty() : Optional.of(String.join(delimiter, elements));
     }
 
+    public StringBuilder appendTo(final StringBuilder builder)
+    {
+        final int size = elements.size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(delimiter);
+            }
+            builder.append(elements.get(i));
+        }
+        return builder;
+    }
+
     public Stream<CharSequence> mergeStreams(final MutableJoiner... others)
     {
         return Stream.concat(stream(), Arrays.stream(others).flatMap(MutableJoiner::stream));
@@ -145,7 +157,15 @@ public final class MutableJoiner extends AbstractCollection<CharSequence> implem
     @Override
     public int length()
     {
-        return elements.size() == 0 ? 0 : toString().length();
+        final int size = elements.size();
+        if (size == 0) {
+            return 0;
+        }
+        int length = delimiter.length() * (size - 1);
+        for (int i = 0; i < size; i++) {
+            length += elements.get(i).length();
+        }
+        return length;
     }
 
     @NotNull
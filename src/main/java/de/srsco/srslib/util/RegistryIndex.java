@@ -0,0 +1,118 @@
+/*
+ * Project      : srsLib
+ * File         : RegistryIndex.java
+ *
+ * Copyright (c) 2023 srs_bsns (forfrdm [at] gmail.com)
+ *
+ * The MIT License (MIT)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+ * IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+ * TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package de.srsco.srslib.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+
+import de.srsco.srslib.metrics.Histogram;
+import de.srsco.srslib.metrics.Metrics;
+
+
+/**
+ * A reverse index from the values of a group of registries to their {@link ResourceKey}s, for values whose type
+ * can not be mapped to a single registry, i.e. MapCodecs and DataComponentTypes.
+ * <p>
+ * The index is built in one pass over all registries on first use, replacing a scan of every registry per lookup.
+ * Registries may still grow before they are frozen, so a miss rebuilds the index if their total size has changed.
+ * {@link #prewarm} builds it ahead of time on another thread, so that the first lookups are already warm.
+ */
+final class RegistryIndex
+{
+    private static final Histogram BUILD_NANOS = Metrics.histogram("srslib.registry.index_build_nanos");
+
+    private final List<Registry<?>> registries;
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), -1);
+
+    RegistryIndex(final List<Registry<?>> registries)
+    {
+        this.registries = List.copyOf(registries);
+    }
+
+    Optional<ResourceKey<?>> find(final Object value)
+    {
+        var current = snapshot;
+        var key = current.keys().get(value);
+        if (key == null && current.size() != totalSize()) {
+            current = rebuild();
+            key = current.keys().get(value);
+        }
+        return Optional.ofNullable(key);
+    }
+
+    boolean isBuilt()
+    {
+        return snapshot.size() >= 0;
+    }
+
+    CompletableFuture<Void> prewarm(final Executor executor)
+    {
+        return CompletableFuture.runAsync(this::rebuild, executor);
+    }
+
+    private synchronized Snapshot rebuild()
+    {
+        final int size = totalSize();
+        if (snapshot.size() == size) {
+            return snapshot;
+        }
+        final long start = System.nanoTime();
+        final var keys = new HashMap<Object, ResourceKey<?>>(size * 4 / 3 + 1);
+        for (final var registry : registries) {
+            index(registry, keys);
+        }
+        snapshot = new Snapshot(keys, size);
+        BUILD_NANOS.recordSince(start);
+        return snapshot;
+    }
+
+    private static <T> void index(final Registry<T> registry, final Map<Object, ResourceKey<?>> keys)
+    {
+        registry.holders().forEach(holder -> keys.putIfAbsent(holder.value(), holder.key()));
+    }
+
+    private int totalSize()
+    {
+        int size = 0;
+        for (final var registry : registries) {
+            size += registry.size();
+        }
+        return size;
+    }
+
+    private record Snapshot(Map<Object, ResourceKey<?>> keys, int size) {}
+}
@@ -30,14 +30,15 @@
 package de.srsco.srslib.util;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Stream;
 
-import com.mojang.logging.LogUtils;
 import com.mojang.serialization.MapCodec;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -48,7 +49,6 @@ import net.minecraft.advancements.CriterionTrigger;
 import net.minecraft.advancements.critereon.ItemSubPredicate;
 import net.minecraft.commands.synchronization.ArgumentTypeInfo;
 import net.minecraft.core.DefaultedRegistry;
-import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.core.particles.ParticleType;
@@ -117,10 +117,27 @@ import net.minecraft.world.level.storage.loot.providers.nbt.LootNbtProviderType;
 import net.minecraft.world.level.storage.loot.providers.number.LootNumberProviderType;
 import net.minecraft.world.level.storage.loot.providers.score.LootScoreProviderType;
 
+import de.srsco.srslib.jfr.LangKeyBuildEvent;
+import de.srsco.srslib.jfr.RegistryLookupEvent;
+import de.srsco.srslib.metrics.Counter;
+import de.srsco.srslib.metrics.Histogram;
+import de.srsco.srslib.metrics.Metrics;
+
 
 @SuppressWarnings({"unused", "WeakerAccess"})
 public final class Util
 {
+    private static final BoundedCache<Class<?>, Optional<Registry<?>>> REGISTRIES_BY_CLASS = BoundedCache.<Class<?>, Optional<Registry<?>>>of(4096)
+        .registerMetrics("srslib.registry.cache");
+
+    private static final Counter REGISTRY_LOOKUPS    = Metrics.counter("srslib.registry.lookups");
+    private static final Counter REGISTRY_CACHE_HITS = Metrics.counter("srslib.registry.cache_hits");
+    private static final Histogram REGISTRY_MISS_NANOS = Metrics.histogram("srslib.registry.miss_nanos");
+
+    static {
+        Metrics.gauge("srslib.registry.cached_types", REGISTRIES_BY_CLASS::size);
+    }
+
     private Util() {}
 
 
@@ -143,14 +160,14 @@ public final class Util
     {
         return switch (obj) {
             case String s   -> LoggerFactory.getLogger(s);
-            case Class<?> c -> LoggerFactory.getLogger(c);
-            default         -> LoggerFactory.getLogger(obj.getClass());
+            case Class<?> c -> Loggers.forClass(c);
+            default         -> Loggers.forClass(obj.getClass());
         };
     }
 
     /**
-     * <h3>Gets a new {@link Logger} instance for a Class.</h3>
-     * This is an alias of {@link com.mojang.logging.LogUtils#getLogger}
+     * <h3>Gets a {@link Logger} instance for a Class.</h3>
+     * This behaves like {@link com.mojang.logging.LogUtils#getLogger}, but Loggers are cached per class via {@link Loggers}.
      * This must return a Supplier as #getLogger is caller-sensitive via a StackWalker
      *
      * @return A Supplier for a Logger instance.
@@ -159,7 +176,7 @@ public final class Util
      */
     public static Supplier<Logger> getLogger()
     {
-        return LogUtils::getLogger;
+        return Loggers::forCaller;
     }
 
 
@@ -218,7 +235,14 @@ public final class Util
      */
     public static <T> Optional<ResourceKey<T>> getResKey(@NotNull final T obj)
     {
-        return getRegistryFor(obj).flatMap(rh -> rh.getResourceKey(obj));
+        final var event = RegistryLookupEvent.start(RegistryLookupEvent.GET_RES_KEY, obj.getClass());
+        final boolean cacheHit = event != null && REGISTRIES_BY_CLASS.containsKey(obj.getClass());
+        final var registry = getRegistryFor(obj);
+        final var key = registry.flatMap(rh -> rh.getResourceKey(obj));
+        if (event != null) {
+            event.finish(registry.map(rh -> rh.key().location().toString()).orElse(null), key.isPresent(), cacheHit);
+        }
+        return key;
     }
 
     /**
@@ -231,27 +255,7 @@ public final class Util
      */
     public static <T extends MapCodec<?>> Optional<ResourceKey<?>> getResKey(final T obj)
     {
-        return Stream.of(
-                // MapCodec registries as of 1.21
-                BuiltInRegistries.BIOME_SOURCE,
-                BuiltInRegistries.CHUNK_GENERATOR,
-                BuiltInRegistries.MATERIAL_CONDITION,
-                BuiltInRegistries.MATERIAL_RULE,
-                BuiltInRegistries.DENSITY_FUNCTION_TYPE,
-                BuiltInRegistries.BLOCK_TYPE,
-                BuiltInRegistries.POOL_ALIAS_BINDING_TYPE,
-                BuiltInRegistries.ENTITY_SUB_PREDICATE_TYPE,
-                BuiltInRegistries.ENCHANTMENT_LEVEL_BASED_VALUE_TYPE,
-                BuiltInRegistries.ENCHANTMENT_ENTITY_EFFECT_TYPE,
-                BuiltInRegistries.ENCHANTMENT_LOCATION_BASED_EFFECT_TYPE,
-                BuiltInRegistries.ENCHANTMENT_VALUE_EFFECT_TYPE,
-                BuiltInRegistries.ENCHANTMENT_PROVIDER_TYPE,
-                BuiltInRegistries.ITEM_SUB_PREDICATE_TYPE
-            )
-            .flatMap(Registry::holders)
-            .filter(h -> h.value().equals(obj))
-            .findFirst()
-            .map(Holder.Reference::key);
+        return findIndexed(RegistryIndexes.MAP_CODECS, obj);
     }
 
     /**
@@ -264,15 +268,33 @@ public final class Util
      */
     public static <T extends DataComponentType<?>> Optional<ResourceKey<?>> getResKey(final T obj)
     {
-        return Stream.of(
-                // DataComponentType registries as of 1.21
-                BuiltInRegistries.DATA_COMPONENT_TYPE,
-                BuiltInRegistries.ENCHANTMENT_EFFECT_COMPONENT_TYPE
-            )
-            .flatMap(Registry::holders)
-            .filter(h -> h.value().equals(obj))
-            .findFirst()
-            .map(Holder.Reference::key);
+        return findIndexed(RegistryIndexes.DATA_COMPONENT_TYPES, obj);
+    }
+
+    /**
+     * <h3>Builds the reverse indexes used by {@link #getResKey(MapCodec)} and {@link #getResKey(DataComponentType)} ahead of time.</h3>
+     * The indexes are otherwise built on first use. This should be called once the registries are frozen,
+     * i.e. during common setup, so that the first lookups are already warm.
+     *
+     * @param executor The Executor to build the indexes on.
+     * @return A CompletableFuture that completes when the indexes are built.
+     *
+     * @since 4.4.0, MC 1.21.1, 2026.10.18
+     */
+    public static CompletableFuture<Void> prewarmRegistryIndexes(@NotNull final Executor executor)
+    {
+        return CompletableFuture.allOf(RegistryIndexes.MAP_CODECS.prewarm(executor), RegistryIndexes.DATA_COMPONENT_TYPES.prewarm(executor));
+    }
+
+    private static Optional<ResourceKey<?>> findIndexed(final RegistryIndex index, final Object obj)
+    {
+        final var event = RegistryLookupEvent.start(RegistryLookupEvent.GET_RES_KEY, obj.getClass());
+        final boolean built = event != null && index.isBuilt();
+        final var key = index.find(obj);
+        if (event != null) {
+            event.finish(key.map(rk -> rk.registry().toString()).orElse(null), key.isPresent(), built);
+        }
+        return key;
     }
 
     /**
@@ -290,11 +312,41 @@ public final class Util
         return level.registryAccess().registry(Registries.BIOME).flatMap(registry -> registry.getResourceKey(biome));
     }
 
+    /**
+     * <h3>A helper method to get the {@link BuiltInRegistries} Registry for an object of nonambiguous type.</h3>
+     * The Registry only depends on the class of the object, so the result is cached per class
+     * and repeated lookups neither walk the type switch nor allocate.
+     *
+     * @param obj The object to get a Registry for.
+     * @return    The Registry, or an empty Optional if the type of the object has no known Registry.
+     */
     @SuppressWarnings("unchecked")
     public static <T> Optional<Registry<T>> getRegistryFor(final T obj)
+    {
+        final var type = obj.getClass();
+        final var event = RegistryLookupEvent.start(RegistryLookupEvent.GET_REGISTRY_FOR, type);
+        final var cached = REGISTRIES_BY_CLASS.getIfPresent(type);
+        final Optional<Registry<?>> found;
+        REGISTRY_LOOKUPS.increment();
+        if (cached != null) {
+            REGISTRY_CACHE_HITS.increment();
+            found = cached;
+        } else {
+            final long start = System.nanoTime();
+            found = findRegistryFor(obj);
+            REGISTRIES_BY_CLASS.put(type, found);
+            REGISTRY_MISS_NANOS.recordSince(start);
+        }
+        if (event != null) {
+            event.finish(found.map(registry -> registry.key().location().toString()).orElse(null), found.isPresent(), cached != null);
+        }
+        return (Optional<Registry<T>>) (Optional<?>) found;
+    }
+
+    private static Optional<Registry<?>> findRegistryFor(final Object obj)
     {
         return Optional.ofNullable(
-            (Registry<T>) switch (obj) {
+            switch (obj) {
                 case GameEvent                      ignored -> BuiltInRegistries.GAME_EVENT;
                 case SoundEvent                     ignored -> BuiltInRegistries.SOUND_EVENT;
                 case Fluid                          ignored -> BuiltInRegistries.FLUID;
@@ -374,6 +426,37 @@ public final class Util
     }
 
 
+    /**
+     * Reverse indexes for registries that share a value type, held lazily so that loading Util does not load BuiltInRegistries.
+     */
+    private static final class RegistryIndexes
+    {
+        private static final RegistryIndex MAP_CODECS = new RegistryIndex(List.of(
+            // MapCodec registries as of 1.21
+            BuiltInRegistries.BIOME_SOURCE,
+            BuiltInRegistries.CHUNK_GENERATOR,
+            BuiltInRegistries.MATERIAL_CONDITION,
+            BuiltInRegistries.MATERIAL_RULE,
+            BuiltInRegistries.DENSITY_FUNCTION_TYPE,
+            BuiltInRegistries.BLOCK_TYPE,
+            BuiltInRegistries.POOL_ALIAS_BINDING_TYPE,
+            BuiltInRegistries.ENTITY_SUB_PREDICATE_TYPE,
+            BuiltInRegistries.ENCHANTMENT_LEVEL_BASED_VALUE_TYPE,
+            BuiltInRegistries.ENCHANTMENT_ENTITY_EFFECT_TYPE,
+            BuiltInRegistries.ENCHANTMENT_LOCATION_BASED_EFFECT_TYPE,
+            BuiltInRegistries.ENCHANTMENT_VALUE_EFFECT_TYPE,
+            BuiltInRegistries.ENCHANTMENT_PROVIDER_TYPE,
+            BuiltInRegistries.ITEM_SUB_PREDICATE_TYPE
+        ));
+
+        private static final RegistryIndex DATA_COMPONENT_TYPES = new RegistryIndex(List.of(
+            // DataComponentType registries as of 1.21
+            BuiltInRegistries.DATA_COMPONENT_TYPE,
+            BuiltInRegistries.ENCHANTMENT_EFFECT_COMPONENT_TYPE
+        ));
+    }
+
+
     /* Language keys */
 
     /**
@@ -446,9 +529,14 @@ public final class Util
         @Override
         public String toString()
         {
-            return path()
+            final var event = LangKeyBuildEvent.start();
+            final var key = path()
                 .map(path -> String.join(".", root.get(), context.get(), path))
                 .orElseGet(() -> String.join(".", root.get(), context.get()));
+            if (event != null) {
+                event.finish(key, stack.size() + buffer.size());
+            }
+            return key;
         }
 
         public String getKey()